@@ -0,0 +1,95 @@
+package com.echofyteam.backend.bootstrap;
+
+import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Merges duplicate flashcard progress rows and enforces one row per user and flashcard.
+ * <p>
+ * Concurrent reviews used to create several progress rows for the same user and flashcard. For every such group
+ * the most recently reviewed row is kept, its repetition count becomes the sum of the group's counts and the
+ * other rows are deleted; then the {@code (user_id, flashcard_id)} unique constraint is added and the
+ * non-unique index it replaces is dropped. Once the constraint exists the migration does nothing.
+ * </p>
+ * <p>
+ * Single reviews are upserted against the constraint, so this migration is not a {@code CommandLineRunner}:
+ * it runs once all singletons, including the schema update of the entity manager factory, are initialized,
+ * and before the web server is started and accepts requests.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlashcardProgressDeduplicationMigration implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!hasUniqueConstraint()) {
+            transactionTemplate.executeWithoutResult(status -> deduplicate());
+        }
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_user_flashcard");
+    }
+
+    private void deduplicate() {
+        List<Object[]> keptRows = new ArrayList<>();
+        List<Object[]> duplicateRows = new ArrayList<>();
+        Object[] group = new Object[3];
+
+        jdbcTemplate.query("""
+                SELECT p.id, p.user_id, p.flashcard_id, p.repetition_count
+                FROM user_flashcard_progresses p
+                JOIN (
+                    SELECT user_id, flashcard_id
+                    FROM user_flashcard_progresses
+                    GROUP BY user_id, flashcard_id
+                    HAVING COUNT(*) > 1
+                ) d ON d.user_id = p.user_id AND d.flashcard_id = p.flashcard_id
+                ORDER BY p.user_id, p.flashcard_id, p.last_reviewed_at DESC NULLS LAST, p.id
+                """, rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            UUID userID = rs.getObject("user_id", UUID.class);
+            UUID flashcardID = rs.getObject("flashcard_id", UUID.class);
+            int repetitionCount = rs.getInt("repetition_count");
+
+            if (userID.equals(group[0]) && flashcardID.equals(group[1])) {
+                Object[] kept = keptRows.getLast();
+                kept[0] = (int) kept[0] + repetitionCount;
+                duplicateRows.add(new Object[] {id});
+            } else {
+                group[0] = userID;
+                group[1] = flashcardID;
+                keptRows.add(new Object[] {repetitionCount, id});
+            }
+        });
+
+        if (!duplicateRows.isEmpty()) {
+            log.info("Merging {} duplicate flashcard progress rows into {} rows", duplicateRows.size(), keptRows.size());
+            jdbcTemplate.batchUpdate("UPDATE user_flashcard_progresses SET repetition_count = ? WHERE id = ?", keptRows);
+            jdbcTemplate.batchUpdate("DELETE FROM user_flashcard_progresses WHERE id = ?", duplicateRows);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE user_flashcard_progresses ADD CONSTRAINT "
+                + UserFlashcardProgressEntity.USER_FLASHCARD_CONSTRAINT + " UNIQUE (user_id, flashcard_id)");
+        log.info("Flashcard progress deduplication completed - unique constraint added");
+    }
+
+    private boolean hasUniqueConstraint() {
+        Integer constraints = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.table_constraints
+                WHERE LOWER(constraint_name) = ?
+                """, Integer.class, UserFlashcardProgressEntity.USER_FLASHCARD_CONSTRAINT);
+        return Objects.requireNonNullElse(constraints, 0) > 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.echofyteam.backend.bootstrap;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills the card count of flashcard sets created before the count was maintained.
+ * Such sets get -1 as the column default; once every set is counted the migration does nothing.
+ * <p>
+ * Card writes adjust the stored count by a delta, which would turn -1 into a plausible but wrong count that
+ * the backfill then skips. The migration therefore runs before the web server is started, like
+ * {@link FlashcardProgressDeduplicationMigration}, and evicts the cached sets and summary queries afterwards
+ * since the JDBC update bypasses Hibernate's cache invalidation.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlashcardSetCardCountMigration implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int migrated = jdbcTemplate.update("""
+                UPDATE flashcard_sets
+                SET card_count = (SELECT COUNT(*) FROM flashcards f WHERE f.set_id = flashcard_sets.id)
+                WHERE card_count < 0
+                """);
+        if (migrated > 0) {
+            entityManagerFactory.getCache().evict(FlashcardSetEntity.class);
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            log.info("Backfilled the card count of {} flashcard sets", migrated);
+        }
+    }
+}
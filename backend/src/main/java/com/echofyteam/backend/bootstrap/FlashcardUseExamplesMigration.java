@@ -0,0 +1,101 @@
+package com.echofyteam.backend.bootstrap;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.entity.UseExamplesConverter;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.*;
+
+/**
+ * Moves flashcard use examples from the legacy {@code flashcard_use_examples} table into the inline
+ * {@code use_examples} column.
+ * <p>
+ * While the legacy table exists, the examples of every flashcard without an inline value are encoded with
+ * {@link UseExamplesConverter} and written in chunks, then the legacy table is dropped. Once the table is gone
+ * the migration does nothing.
+ * </p>
+ * <p>
+ * Cards read before their examples are migrated would be served, and cached, without examples, so the
+ * migration runs before the web server is started, like {@link FlashcardProgressDeduplicationMigration}, and
+ * evicts the cached flashcards afterwards since the JDBC updates bypass Hibernate's cache invalidation.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlashcardUseExamplesMigration implements SmartInitializingSingleton {
+    private static final String LEGACY_TABLE = "flashcard_use_examples";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!hasLegacyTable()) {
+            return;
+        }
+
+        log.info("Migrating flashcard use examples to the inline column");
+        UseExamplesConverter converter = new UseExamplesConverter();
+        long migrated = 0;
+
+        while (true) {
+            List<UUID> flashcardIDs = jdbcTemplate.queryForList(
+                    "SELECT id FROM flashcards WHERE use_examples IS NULL FETCH FIRST " + CHUNK_SIZE + " ROWS ONLY",
+                    UUID.class);
+            if (flashcardIDs.isEmpty()) {
+                break;
+            }
+
+            Map<UUID, List<String>> useExamples = new HashMap<>();
+            namedParameterJdbcTemplate.query(
+                    "SELECT flashcard_id, example FROM flashcard_use_examples WHERE flashcard_id IN (:ids)",
+                    Map.of("ids", flashcardIDs),
+                    rs -> {
+                        useExamples.computeIfAbsent(rs.getObject("flashcard_id", UUID.class), id -> new ArrayList<>())
+                                .add(rs.getString("example"));
+                    });
+
+            List<Object[]> chunk = flashcardIDs.stream()
+                    .map(id -> new Object[] {
+                            converter.convertToDatabaseColumn(useExamples.getOrDefault(id, List.of())),
+                            id
+                    })
+                    .toList();
+
+            jdbcTemplate.batchUpdate("UPDATE flashcards SET use_examples = ? WHERE id = ?", chunk);
+            migrated += chunk.size();
+            log.info("Migrated use examples of {} flashcards", migrated);
+        }
+
+        jdbcTemplate.execute("DROP TABLE flashcard_use_examples");
+        entityManagerFactory.getCache().evict(FlashcardEntity.class);
+        log.info("Use examples migration completed - {} flashcards migrated, legacy table dropped", migrated);
+    }
+
+    private boolean hasLegacyTable() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : List.of(LEGACY_TABLE, LEGACY_TABLE.toUpperCase())) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, table, new String[] {"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Objects.requireNonNullElse(exists, false);
+    }
+}
@@ -0,0 +1,33 @@
+package com.echofyteam.backend.bootstrap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns refresh tokens issued before token families were introduced into single-token families,
+ * using the row id as the family id.
+ * <p>
+ * Refreshing a token without a family would fail and sign the user out, so the migration runs before the web
+ * server is started, right after {@link RefreshTokenHashMigration} which it builds on.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenFamilyMigration implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+    private final RefreshTokenHashMigration refreshTokenHashMigration;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refreshTokenHashMigration.migrate();
+
+        int migrated = jdbcTemplate.update("UPDATE refresh_tokens SET family_id = id WHERE family_id IS NULL");
+        if (migrated > 0) {
+            log.info("Assigned token families to {} refresh tokens", migrated);
+        }
+    }
+}
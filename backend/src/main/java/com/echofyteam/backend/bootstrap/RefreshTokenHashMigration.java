@@ -0,0 +1,96 @@
+package com.echofyteam.backend.bootstrap;
+
+import com.echofyteam.backend.feature.auth.util.TokenDigestUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Migrates refresh tokens stored as raw JWTs to SHA-256 digests.
+ * <p>
+ * While the legacy {@code token} column exists, the digest of every row without one is written to
+ * {@code token_hash} in chunks, then the legacy column (together with its unique constraint and index) is dropped
+ * and {@code token_hash} is made mandatory. Once the column is gone the migration does nothing.
+ * </p>
+ * <p>
+ * New refresh tokens are inserted without the legacy {@code NOT NULL} column and looked up by digest, so the
+ * migration runs before the web server is started, like {@link FlashcardProgressDeduplicationMigration}.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenHashMigration implements SmartInitializingSingleton {
+    private static final String TABLE = "refresh_tokens";
+    private static final String LEGACY_COLUMN = "token";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    /**
+     * Runs the migration unless it already ran in this application context. Migrations that depend on the
+     * migrated schema call this first, since the order of {@link SmartInitializingSingleton} callbacks is not
+     * defined.
+     */
+    public void migrate() {
+        if (!completed.compareAndSet(false, true) || !hasLegacyColumn()) {
+            return;
+        }
+
+        log.info("Migrating refresh tokens to SHA-256 digests");
+        long migrated = 0;
+
+        while (true) {
+            List<Object[]> chunk = jdbcTemplate.query(
+                    "SELECT id, token FROM refresh_tokens WHERE token_hash IS NULL FETCH FIRST " + CHUNK_SIZE + " ROWS ONLY",
+                    (rs, rowNum) -> new Object[] {
+                            TokenDigestUtil.sha256(rs.getString("token")),
+                            rs.getObject("id", UUID.class)
+                    });
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            jdbcTemplate.batchUpdate("UPDATE refresh_tokens SET token_hash = ? WHERE id = ?", chunk);
+            migrated += chunk.size();
+            log.info("Migrated {} refresh tokens", migrated);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE refresh_tokens DROP COLUMN token");
+        jdbcTemplate.execute("ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL");
+        log.info("Refresh token migration completed - {} tokens migrated, legacy token column dropped", migrated);
+    }
+
+    private boolean hasLegacyColumn() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : List.of(TABLE, TABLE.toUpperCase())) {
+                for (String column : List.of(LEGACY_COLUMN, LEGACY_COLUMN.toUpperCase())) {
+                    try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                        if (columns.next()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Objects.requireNonNullElse(exists, false);
+    }
+}
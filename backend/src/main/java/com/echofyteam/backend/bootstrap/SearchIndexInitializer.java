@@ -0,0 +1,28 @@
+package com.echofyteam.backend.bootstrap;
+
+import com.echofyteam.backend.feature.search.index.SearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements CommandLineRunner {
+    private final SearchIndex searchIndex;
+
+    @Value("${app.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(String... args) {
+        if (!rebuildOnStartup) {
+            log.info("Skipping search index build on startup");
+            return;
+        }
+
+        searchIndex.rebuild();
+    }
+}
@@ -0,0 +1,67 @@
+package com.echofyteam.backend.config;
+
+import com.echofyteam.backend.feature.auth.security.VerifiedTokenCache;
+import com.echofyteam.backend.feature.flashcard.service.impl.FlashcardDrawService;
+import com.echofyteam.backend.feature.search.index.SearchIndex;
+import com.echofyteam.backend.feature.user.cache.UserCache;
+import com.echofyteam.backend.metrics.QueryCountingDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache verifiedTokenCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, verifiedTokenCache.getCache(), "jwt.verified");
+    }
+
+    @Bean
+    public MeterBinder flashcardDrawIndexMetrics(FlashcardDrawService flashcardDrawService) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, flashcardDrawService.getIdIndex(), "flashcard.draw.index");
+    }
+
+    @Bean
+    public MeterBinder userCacheMetrics(UserCache userCache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", userCache, UserCache::getHitCount)
+                    .tags("cache", "user", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", userCache, UserCache::getMissCount)
+                    .tags("cache", "user", "result", "miss")
+                    .register(registry);
+            Gauge.builder("cache.size", userCache, UserCache::getSize)
+                    .tag("cache", "user")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder searchIndexMetrics(SearchIndex searchIndex) {
+        return registry -> {
+            Gauge.builder("search.index.documents", searchIndex, SearchIndex::getDocumentCount)
+                    .register(registry);
+            Gauge.builder("search.index.terms", searchIndex, SearchIndex::getTermCount)
+                    .register(registry);
+        };
+    }
+}
@@ -18,6 +18,10 @@ public enum BusinessExceptionReason {
 
     TOKEN_NOT_FOUND("Token not found", HttpStatus.NOT_FOUND),
     INVALID_TOKEN("Invalid token", HttpStatus.BAD_REQUEST),
+    REFRESH_TOKEN_REUSED("Refresh token was already used, the session has been revoked", HttpStatus.UNAUTHORIZED),
+
+    PASSWORD_HASHING_QUEUE_FULL("Too many sign-in requests, try again later", HttpStatus.TOO_MANY_REQUESTS),
+    PASSWORD_HASHING_UNAVAILABLE("Too many sign-in requests are being processed, try again later", HttpStatus.SERVICE_UNAVAILABLE),
 
     FORBIDDEN("Forbidden", HttpStatus.FORBIDDEN),
 
@@ -25,7 +29,15 @@ public enum BusinessExceptionReason {
     FLASHCARD_WITH_THIS_WORD_IS_ALREADY_EXISTS("Flashcard with this word is already exists", HttpStatus.CONFLICT),
     DUPLICATE_WORDS_IN_BATCH("Duplicate words in batch", HttpStatus.CONFLICT),
 
-    FLASHCARD_SET_NOT_FOUND("Flashcard set not found", HttpStatus.NOT_FOUND)
+    FLASHCARD_SET_NOT_FOUND("Flashcard set not found", HttpStatus.NOT_FOUND),
+    INVALID_CURSOR("Invalid cursor", HttpStatus.BAD_REQUEST),
+
+    UNSUPPORTED_EXCHANGE_FORMAT("Unsupported format: %s", HttpStatus.BAD_REQUEST),
+    INVALID_IMPORT_FILE("Invalid import file at line %d: %s", HttpStatus.BAD_REQUEST),
+
+    SEARCH_INDEX_REBUILD_IN_PROGRESS("Search index rebuild is already in progress", HttpStatus.CONFLICT),
+
+    CACHE_REGION_NOT_FOUND("Cache region not found: %s", HttpStatus.NOT_FOUND)
     ;
 
     private final String message;
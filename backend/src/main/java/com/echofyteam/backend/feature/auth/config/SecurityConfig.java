@@ -1,8 +1,11 @@
 package com.echofyteam.backend.feature.auth.config;
 
+import com.echofyteam.backend.feature.auth.security.BoundedPasswordEncoder;
 import com.echofyteam.backend.feature.auth.security.JwtFilter;
+import com.echofyteam.backend.feature.auth.security.PasswordHashingExecutor;
 import com.echofyteam.backend.feature.auth.service.impl.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,13 +16,16 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -27,6 +33,13 @@ import java.util.List;
 public class SecurityConfig {
     private final JwtFilter jwtFilter;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @Value("${app.security.password.encoding-id:bcrypt}")
+    private String passwordEncodingId;
+
+    @Value("${app.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
 
     private static final String[] ALLOWED_ENDPOINTS = new String[] {
             "/",
@@ -34,12 +47,18 @@ public class SecurityConfig {
             "/css/*",
             "/error",
             "/api/v1/auth/**",
+            "/actuator/health",
             "/swagger-ui/**",
             "/v3/api-docs/**",
             "/swagger-ui.html",
             "/webjars/**"
     };
 
+    private static final String[] ADMIN_ENDPOINTS = new String[] {
+            "/api/v1/admin/**",
+            "/actuator/**"
+    };
+
     private static final List<String> ALLOWED_ORIGINS = List.of(
             "*"
     );
@@ -50,6 +69,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(
                         authorizeHttp -> {
                             authorizeHttp.requestMatchers(ALLOWED_ENDPOINTS).permitAll();
+                            authorizeHttp.requestMatchers(ADMIN_ENDPOINTS).hasRole("ADMIN");
                             authorizeHttp.anyRequest().authenticated();
                         }
                 )
@@ -76,6 +96,7 @@ public class SecurityConfig {
         final var provider = new DaoAuthenticationProvider(userDetailsService);
 
         provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsPasswordService(userDetailsService);
 
         return provider;
     }
@@ -90,6 +111,17 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt. They still match and are
+        // re-encoded with the configured encoder on the next successful sign-in.
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(passwordEncodingId, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, passwordHashingExecutor);
     }
 }
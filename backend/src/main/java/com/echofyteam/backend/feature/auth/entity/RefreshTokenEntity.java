@@ -1,14 +1,23 @@
 package com.echofyteam.backend.feature.auth.entity;
 
 import com.echofyteam.backend.feature.user.entity.UserEntity;
+import com.echofyteam.backend.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * A refresh token family: one row per sign-in, rotated in place on every refresh.
+ * <p>
+ * Only the digest of the family's current token is stored. Presenting any earlier token of the family
+ * means it was stolen or replayed, and revokes the whole family.
+ * </p>
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +27,6 @@ import java.util.UUID;
 @Table(
         name = "refresh_tokens",
         indexes = {
-                @Index(name = "idx_refresh_token_token", columnList = "token"),
                 @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
                 @Index(name = "idx_refresh_token_revoked", columnList = "revoked"),
                 @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
@@ -27,11 +35,27 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 public class RefreshTokenEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    /**
+     * Identifier of the token family, carried by its tokens as the {@code fid} claim.
+     */
+    @Column(name = "family_id", unique = true)
+    private UUID familyId;
+
+    /**
+     * Number of rotations the family has gone through.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int generation;
+
+    /**
+     * SHA-256 digest of the refresh token. The token itself is never stored.
+     */
+    @Column(name = "token_hash", unique = true, length = 32)
+    private byte[] tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -46,4 +70,7 @@ public class RefreshTokenEntity {
 
     @Column(nullable = false)
     private Instant expiresAt;
+
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
 }
@@ -2,23 +2,78 @@ package com.echofyteam.backend.feature.auth.repository;
 
 import com.echofyteam.backend.feature.auth.entity.RefreshTokenEntity;
 import com.echofyteam.backend.feature.user.entity.UserEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID> {
-    Optional<RefreshTokenEntity> findByToken(String token);
+    Optional<RefreshTokenEntity> findByTokenHash(byte[] tokenHash);
+    Optional<RefreshTokenEntity> findByFamilyId(UUID familyId);
     void deleteByUser(UserEntity user);
 
+    /**
+     * Replaces the family's current token with the next one, provided the presented token is still the current
+     * one and the family is neither revoked nor expired. This compare-and-set is the only write of a rotation.
+     *
+     * @return 1 if the family was rotated, 0 otherwise
+     */
     @Modifying
     @Transactional
-    int deleteByExpiresAtBefore(Instant now);
+    @Query("""
+            UPDATE RefreshTokenEntity t
+            SET t.tokenHash = :nextTokenHash, t.generation = t.generation + 1, t.rotatedAt = :now, t.expiresAt = :expiresAt
+            WHERE t.familyId = :familyId AND t.tokenHash = :tokenHash AND t.revoked = false AND t.expiresAt > :now
+            """)
+    int rotate(
+            @Param("familyId") UUID familyId,
+            @Param("tokenHash") byte[] tokenHash,
+            @Param("nextTokenHash") byte[] nextTokenHash,
+            @Param("now") Instant now,
+            @Param("expiresAt") Instant expiresAt);
 
+    /**
+     * Revokes the family if the presented token is its current, unexpired token.
+     *
+     * @return 1 if the family was revoked, 0 otherwise
+     */
     @Modifying
     @Transactional
-    int deleteByRevokedTrue();
+    @Query("""
+            UPDATE RefreshTokenEntity t SET t.revoked = true
+            WHERE t.familyId = :familyId AND t.tokenHash = :tokenHash AND t.revoked = false AND t.expiresAt > :now
+            """)
+    int revokeCurrent(@Param("familyId") UUID familyId, @Param("tokenHash") byte[] tokenHash, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshTokenEntity t SET t.revoked = true WHERE t.familyId = :familyId AND t.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    /**
+     * Claims a batch of expired or revoked tokens for deletion. Rows locked by another transaction, e.g. by the
+     * cleanup of another instance, are skipped instead of waited for. A lock timeout of -2 is Hibernate's
+     * {@code SKIP LOCKED}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT t.id FROM RefreshTokenEntity t WHERE t.expiresAt < :now OR t.revoked = true")
+    List<UUID> claimRemovableIds(@Param("now") Instant now, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
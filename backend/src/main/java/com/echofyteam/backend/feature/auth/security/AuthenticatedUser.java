@@ -0,0 +1,41 @@
+package com.echofyteam.backend.feature.auth.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lightweight principal built from the claims of a verified access token.
+ * <p>
+ * Lets services resolve the current user's identity without loading the user from the database.
+ * </p>
+ *
+ * @param id    the unique identifier of the user ({@code userID} claim)
+ * @param email the email address of the user (token subject)
+ * @param roles the role names of the user ({@code roles} claim)
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String email,
+        Set<String> roles
+) implements Principal {
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Maps the role names to granted authorities, using the same {@code ROLE_} prefix as {@code Role}.
+     *
+     * @return the granted authorities of the user
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+}
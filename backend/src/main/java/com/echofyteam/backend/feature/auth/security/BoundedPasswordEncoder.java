@@ -0,0 +1,36 @@
+package com.echofyteam.backend.feature.auth.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} decorator that computes every hash on the {@link PasswordHashingExecutor}.
+ * <p>
+ * Password hashing is deliberately CPU-bound. Running it on the request thread lets a login burst occupy every
+ * worker or carrier thread; the executor bounds the concurrency and rejects callers once its queue is full.
+ * Checking whether a hash needs upgrading is cheap and stays on the calling thread.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor) {
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,12 +1,14 @@
 package com.echofyteam.backend.feature.auth.security;
 
 import com.echofyteam.backend.feature.auth.service.impl.JWTServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +18,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
@@ -25,6 +31,10 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class JwtFilter extends OncePerRequestFilter {
     private final JWTServiceImpl jwtService;
     private final UserDetailsService userDetailsService;
+    private final RevokedTokenFamilies revokedTokenFamilies;
+
+    @Value("${app.security.jwt.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -33,30 +43,26 @@ public class JwtFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
         final String authorizationHeader = request.getHeader(AUTHORIZATION);
 
-        String jwtToken = null;
+        Claims claims = null;
         String username = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwtToken = authorizationHeader.substring(7);
-            username = jwtService.extractUsername(jwtToken, JWTServiceImpl.JwtType.ACCESS);
+            String jwtToken = authorizationHeader.substring(7);
+            claims = jwtService.extractAllClaims(jwtToken, JWTServiceImpl.JwtType.ACCESS);
+
+            if (revokedTokenFamilies.isRevoked(claims)) {
+                log.info("Access token of a revoked token family");
+            } else {
+                username = claims.getSubject();
+            }
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            log.info("user details: {}", userDetails.getUsername());
-
-            boolean isTokenValid = 
-                    jwtService.isValid(jwtToken, userDetails.getUsername(), JWTServiceImpl.JwtType.ACCESS);
-
-            log.info("is valid: {}", isTokenValid);
-
-            if (isTokenValid) {
-                var authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
+            UsernamePasswordAuthenticationToken authToken = stateless
+                    ? authenticateFromClaims(claims)
+                    : authenticateFromUserDetails(claims, username);
 
+            if (authToken != null) {
                 log.info("auth token: {}", authToken);
 
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -67,4 +73,58 @@ public class JwtFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the authentication from the user loaded by {@link UserDetailsService}.
+     *
+     * @param claims   the verified claims of the access token
+     * @param username the subject of the access token
+     * @return the authentication, or null if the token does not belong to the loaded user
+     */
+    private UsernamePasswordAuthenticationToken authenticateFromUserDetails(Claims claims, String username) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        log.info("user details: {}", userDetails.getUsername());
+
+        boolean isTokenValid = jwtService.isValid(claims, userDetails.getUsername());
+
+        log.info("is valid: {}", isTokenValid);
+
+        if (!isTokenValid) {
+            return null;
+        }
+
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+    }
+
+    /**
+     * Builds the authentication directly from the {@code userID} and {@code roles} claims,
+     * without loading the user from the database.
+     *
+     * @param claims the verified claims of the access token
+     * @return the authentication, or null if the token does not carry a user id
+     */
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(Claims claims) {
+        String userID = claims.get("userID", String.class);
+        if (userID == null || !jwtService.isValid(claims, claims.getSubject())) {
+            log.info("Access token without valid userID claim");
+            return null;
+        }
+
+        Collection<?> roles = claims.get("roles", Collection.class);
+        Set<String> roleNames = roles == null ? Set.of() : roles.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toSet());
+
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.fromString(userID), claims.getSubject(), roleNames);
+
+        return new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                principal.getAuthorities()
+        );
+    }
+}
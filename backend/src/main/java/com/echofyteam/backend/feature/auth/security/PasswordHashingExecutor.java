@@ -0,0 +1,130 @@
+package com.echofyteam.backend.feature.auth.security;
+
+import com.echofyteam.backend.exception.impl.BusinessException;
+import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated executor for password hashing.
+ * <p>
+ * Hashing runs on a fixed number of platform threads with a bounded queue in front of them, so a login burst
+ * cannot take more CPU than the pool allows and never blocks request threads on anything but its own result.
+ * When the queue is full the caller is rejected immediately with 429; when the hash is not computed within the
+ * timeout the caller is rejected with 503 and the task is cancelled.
+ * </p>
+ * <p>
+ * Hash latency ({@code auth.password.hash}), queue depth, active workers and rejections are published as metrics.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+    private static final String METRIC_PREFIX = "auth.password.hash";
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final MeterRegistry meterRegistry;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public PasswordHashingExecutor(
+            @Value("${app.security.password.threads:0}") int threads,
+            @Value("${app.security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password.timeout:5s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = timeout.toNanos();
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks being computed")
+                .register(meterRegistry);
+        this.queueFullRejections = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        log.info("Password hashing executor started with {} threads and a queue of {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Computes the hashing operation on the executor and waits for its result.
+     *
+     * @param operation name of the operation, used as the metric tag
+     * @param hashing   the hashing work
+     * @return the result of the hashing work
+     * @throws BusinessException if the queue is full or the result is not available within the timeout
+     */
+    public <T> T execute(String operation, Supplier<T> hashing) {
+        Timer timer = Timer.builder(METRIC_PREFIX)
+                .tag("operation", operation)
+                .description("Time spent computing password hashes")
+                .register(meterRegistry);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(hashing));
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            log.warn("Password hashing queue is full - rejecting {}", operation);
+            throw new BusinessException(BusinessExceptionReason.PASSWORD_HASHING_QUEUE_FULL);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutRejections.increment();
+            log.warn("Password hashing did not complete in time - rejecting {}", operation);
+            throw new BusinessException(BusinessExceptionReason.PASSWORD_HASHING_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessExceptionReason.PASSWORD_HASHING_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,61 @@
+package com.echofyteam.backend.feature.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * In-memory denylist of revoked refresh token families.
+ * <p>
+ * Access tokens are not stored anywhere, so revoking a family in the database does not stop the access tokens
+ * already issued for it. Every revoked family id is kept here for one access token lifetime, after which all of
+ * its access tokens have expired on their own. The denylist is local to the instance.
+ * </p>
+ */
+@Component
+public class RevokedTokenFamilies {
+    public static final String FAMILY_CLAIM = "fid";
+
+    private final Cache<UUID, Boolean> revoked;
+
+    public RevokedTokenFamilies(
+            @Value("${app.security.jwt.access-expiration}") long accessExpirationSeconds,
+            @Value("${app.security.jwt.revoked-families.max-size:100000}") long maxSize) {
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(accessExpirationSeconds))
+                .build();
+    }
+
+    public void revoke(UUID familyID) {
+        revoked.put(familyID, Boolean.TRUE);
+    }
+
+    /**
+     * Checks whether the token belongs to a revoked family. Tokens issued before families were introduced
+     * carry no family id and are never denied.
+     *
+     * @param claims the verified claims of the token
+     * @return true if the token's family was revoked
+     */
+    public boolean isRevoked(Claims claims) {
+        UUID familyID = getFamilyID(claims);
+        return familyID != null && revoked.getIfPresent(familyID) != null;
+    }
+
+    /**
+     * Returns the family id carried by the token, or null for tokens issued before families were introduced.
+     *
+     * @param claims the verified claims of the token
+     * @return the family id, or null
+     */
+    public static UUID getFamilyID(Claims claims) {
+        String familyID = claims.get(FAMILY_CLAIM, String.class);
+        return familyID == null ? null : UUID.fromString(familyID);
+    }
+}
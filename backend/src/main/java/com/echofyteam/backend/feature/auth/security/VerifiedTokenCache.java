@@ -0,0 +1,80 @@
+package com.echofyteam.backend.feature.auth.security;
+
+import com.echofyteam.backend.feature.auth.service.impl.JWTServiceImpl;
+import com.echofyteam.backend.feature.auth.util.TokenDigestUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of already verified JWT claims.
+ * <p>
+ * Entries are keyed by the token type and the SHA-256 digest of the token, and each entry
+ * expires exactly at the token's {@code exp} claim, so an expired token is never served from the cache.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(@Value("${app.security.jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached claims of the token or verifies it with the given verifier and caches the result.
+     *
+     * @param token    the raw JWT token string
+     * @param jwtType  the type of token (ACCESS or REFRESH)
+     * @param verifier function that parses and verifies the token, throwing if it is invalid
+     * @return the verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is not cached and fails verification
+     */
+    public Claims get(String token, JWTServiceImpl.JwtType jwtType, Function<String, Claims> verifier) {
+        String key = jwtType.name() + ":" + TokenDigestUtil.sha256Base64(token);
+        return cache.get(key, ignored -> verifier.apply(token));
+    }
+
+    /**
+     * Exposes the underlying cache, e.g. for statistics.
+     *
+     * @return the underlying cache
+     */
+    public Cache<String, Claims> getCache() {
+        return cache;
+    }
+
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
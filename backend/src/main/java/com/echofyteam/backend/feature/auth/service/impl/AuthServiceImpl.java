@@ -9,13 +9,19 @@ import com.echofyteam.backend.feature.auth.dto.response.SignInResponse;
 import com.echofyteam.backend.feature.auth.dto.response.SignUpResponse;
 import com.echofyteam.backend.feature.auth.entity.RefreshTokenEntity;
 import com.echofyteam.backend.feature.auth.repository.RefreshTokenRepository;
+import com.echofyteam.backend.feature.auth.security.RevokedTokenFamilies;
 import com.echofyteam.backend.feature.auth.service.AuthService;
+import com.echofyteam.backend.feature.auth.util.TokenDigestUtil;
 import com.echofyteam.backend.feature.role.entity.Role;
+import com.echofyteam.backend.feature.user.cache.UserCache;
+import com.echofyteam.backend.feature.user.cache.UserSnapshot;
 import com.echofyteam.backend.feature.user.dto.request.CreateUserRequest;
 import com.echofyteam.backend.feature.user.dto.response.UserResponse;
 import com.echofyteam.backend.feature.user.entity.UserEntity;
 import com.echofyteam.backend.feature.user.repository.UserRepository;
 import com.echofyteam.backend.feature.user.service.UserService;
+import com.echofyteam.backend.persistence.UuidV7;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.util.Pair;
@@ -23,26 +29,35 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
+    private static final String GENERATION_CLAIM = "gen";
+
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JWTServiceImpl jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final UserCache userCache;
+    private final RevokedTokenFamilies revokedTokenFamilies;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * Verifies the password outside of any transaction, so a sign-in waiting for or running the password hash
+     * does not hold a database connection; only the user and token writes run in a transaction.
+     */
     @Override
-    @Transactional
     public SignInResponse signIn(SignInRequest signInRequest) {
         log.info("Sign in for user: {}", signInRequest.emailOrUsername());
 
@@ -50,23 +65,27 @@ public class AuthServiceImpl implements AuthService {
                 signInRequest.emailOrUsername(), signInRequest.password()
         ));
 
-        UserEntity user = userRepository.findByEmail(signInRequest.emailOrUsername())
-                .or(() -> userRepository.findByUsername(signInRequest.emailOrUsername()))
-                .orElseThrow(() -> {
-                    log.warn("User with credentials: {} not found", signInRequest.emailOrUsername());
-                    return new BusinessException(BusinessExceptionReason.USER_NOT_FOUND);
-                });
+        Pair<String, String> tokens = transactionTemplate.execute(status -> {
+            UserEntity user = userRepository.findByEmail(signInRequest.emailOrUsername())
+                    .or(() -> userRepository.findByUsername(signInRequest.emailOrUsername()))
+                    .orElseThrow(() -> {
+                        log.warn("User with credentials: {} not found", signInRequest.emailOrUsername());
+                        return new BusinessException(BusinessExceptionReason.USER_NOT_FOUND);
+                    });
 
-        user.setLastLoginAt(Instant.now());
-        userRepository.save(user);
+            user.setLastLoginAt(Instant.now());
+            userRepository.save(user);
 
-        log.info("Generate access and refresh tokens for user with id: {}", user.getId());
-        Pair<String, String> tokens = getTokensForUser(user);
+            log.info("Generate access and refresh tokens for user with id: {}", user.getId());
+            return getTokensForUser(user);
+        });
         return new SignInResponse(tokens.getFirst(), tokens.getSecond());
     }
 
+    /**
+     * Encodes the password before the transaction is opened, for the same reason as {@link #signIn}.
+     */
     @Override
-    @Transactional
     public SignUpResponse signUp(SignUpRequest signUpRequest) {
         log.info("Sign up for user: {}", signUpRequest.email());
 
@@ -81,93 +100,162 @@ public class AuthServiceImpl implements AuthService {
                 .roles(Set.of("USER"))
                 .build();
 
-        log.info("Creating user: {}", signUpRequest.email());
-        UserResponse userResponse = userService.createUser(createUserRequest);
+        return transactionTemplate.execute(status -> {
+            log.info("Creating user: {}", signUpRequest.email());
+            UserResponse userResponse = userService.createUser(createUserRequest);
 
-        UserEntity user = userRepository.findById(userResponse.id())
-                .orElseThrow(() -> {
-                    log.warn("User with id: {} not found", userResponse.id());
-                    return new BusinessException(BusinessExceptionReason.USER_NOT_FOUND);
-                });
+            UserEntity user = userRepository.findById(userResponse.id())
+                    .orElseThrow(() -> {
+                        log.warn("User with id: {} not found", userResponse.id());
+                        return new BusinessException(BusinessExceptionReason.USER_NOT_FOUND);
+                    });
 
-        log.info("Generate access and refresh tokens for user with id: {}", user.getId());
-        Pair<String, String> tokens = getTokensForUser(user);
+            log.info("Generate access and refresh tokens for user with id: {}", user.getId());
+            Pair<String, String> tokens = getTokensForUser(user);
 
-        return new SignUpResponse(
-                new SignInResponse(tokens.getFirst(), tokens.getSecond()),
-                userResponse
-        );
+            return new SignUpResponse(
+                    new SignInResponse(tokens.getFirst(), tokens.getSecond()),
+                    userResponse
+            );
+        });
     }
 
     @Override
-    @Transactional
     public void signOut(String refreshToken) {
-        log.info("Sign out for refresh token: {}", refreshToken);
+        log.info("Sign out with refresh token");
 
-        RefreshTokenEntity oldToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> {
-                    log.warn("Refresh token with token: {} not found", refreshToken);
-                    return new BusinessException(BusinessExceptionReason.TOKEN_NOT_FOUND);
-                });
+        TokenFamily tokenFamily = resolveTokenFamily(refreshToken);
 
-        if (oldToken.isRevoked() || oldToken.getExpiresAt().isBefore(Instant.now())) {
-            log.warn("Refresh token is invalid");
-            throw new BusinessException(BusinessExceptionReason.INVALID_TOKEN);
+        int revoked = refreshTokenRepository.revokeCurrent(tokenFamily.familyID(), tokenFamily.tokenHash(), Instant.now());
+        if (revoked == 0) {
+            rejectStaleToken(tokenFamily);
         }
 
-        log.info("Refresh token set to revoked");
-        oldToken.setRevoked(true);
-        refreshTokenRepository.save(oldToken);
+        revokedTokenFamilies.revoke(tokenFamily.familyID());
+        log.info("Refresh token family with id: {} revoked", tokenFamily.familyID());
     }
 
     @Override
     public RefreshTokenResponse refreshToken(String refreshToken) {
-        log.info("Refreshing token: {}", refreshToken);
+        log.info("Refreshing token");
+
+        TokenFamily tokenFamily = resolveTokenFamily(refreshToken);
+
+        UserSnapshot user = userCache.getByEmail(tokenFamily.email(), () -> userRepository.findByEmail(tokenFamily.email()))
+                .orElseThrow(() -> {
+                    log.warn("User with email: {} not found", tokenFamily.email());
+                    return new BusinessException(BusinessExceptionReason.USER_NOT_FOUND);
+                });
+
+        int generation = tokenFamily.generation() + 1;
+        String accessToken = generateAccessToken(user.id(), user.email(), user.roles(), tokenFamily.familyID());
+        String nextRefreshToken = generateRefreshToken(user.id(), user.email(), user.roles(), tokenFamily.familyID(), generation);
+
+        int rotated = refreshTokenRepository.rotate(
+                tokenFamily.familyID(),
+                tokenFamily.tokenHash(),
+                TokenDigestUtil.sha256(nextRefreshToken),
+                Instant.now(),
+                jwtService.getExpirationInstant(JWTServiceImpl.JwtType.REFRESH));
+        if (rotated == 0) {
+            rejectStaleToken(tokenFamily);
+        }
+
+        log.info("Rotated refresh token family with id: {} to generation {}", tokenFamily.familyID(), generation);
+        return new RefreshTokenResponse(accessToken, nextRefreshToken);
+    }
+
+    /**
+     * Verifies the refresh token and resolves its family. Tokens issued before families were introduced carry
+     * no family claim and are resolved through their digest.
+     */
+    private TokenFamily resolveTokenFamily(String refreshToken) {
+        Claims claims = jwtService.extractAllClaims(refreshToken, JWTServiceImpl.JwtType.REFRESH);
+        byte[] tokenHash = TokenDigestUtil.sha256(refreshToken);
+
+        UUID familyID = RevokedTokenFamilies.getFamilyID(claims);
+        if (familyID == null) {
+            familyID = refreshTokenRepository.findByTokenHash(tokenHash)
+                    .map(RefreshTokenEntity::getFamilyId)
+                    .orElseThrow(() -> {
+                        log.warn("Refresh token not found");
+                        return new BusinessException(BusinessExceptionReason.TOKEN_NOT_FOUND);
+                    });
+        }
+
+        Integer generation = claims.get(GENERATION_CLAIM, Integer.class);
+        return new TokenFamily(familyID, claims.getSubject(), generation == null ? 0 : generation, tokenHash);
+    }
 
-        RefreshTokenEntity oldToken = refreshTokenRepository.findByToken(refreshToken)
+    /**
+     * Explains why a token could not be rotated or revoked. A token that is not its family's current one has
+     * already been rotated, so it is being replayed; the whole family is revoked.
+     */
+    private void rejectStaleToken(TokenFamily tokenFamily) {
+        RefreshTokenEntity family = refreshTokenRepository.findByFamilyId(tokenFamily.familyID())
                 .orElseThrow(() -> {
-                    log.warn("Refresh token with token: {} not found", refreshToken);
+                    log.warn("Refresh token family with id: {} not found", tokenFamily.familyID());
                     return new BusinessException(BusinessExceptionReason.TOKEN_NOT_FOUND);
                 });
 
-        if (oldToken.isRevoked() || oldToken.getExpiresAt().isBefore(Instant.now())) {
+        if (family.isRevoked() || family.getExpiresAt().isBefore(Instant.now())) {
             log.warn("Refresh token is invalid");
             throw new BusinessException(BusinessExceptionReason.INVALID_TOKEN);
         }
 
-        UserEntity user = oldToken.getUser();
-
-        log.info("Old refresh token set to revoked");
-        oldToken.setRevoked(true);
-        refreshTokenRepository.save(oldToken);
-
-        log.info("Generate new access and refresh tokens for user with id: {}", user.getId());
-        Pair<String, String> tokens = getTokensForUser(user);
-        return new RefreshTokenResponse(tokens.getFirst(), tokens.getSecond());
+        refreshTokenRepository.revokeFamily(tokenFamily.familyID());
+        revokedTokenFamilies.revoke(tokenFamily.familyID());
+        log.warn("Reuse of a rotated refresh token detected - revoked token family with id: {}", tokenFamily.familyID());
+        throw new BusinessException(BusinessExceptionReason.REFRESH_TOKEN_REUSED);
     }
 
+    /**
+     * Starts a new token family for the user and stores its first refresh token.
+     */
     private Pair<String, String> getTokensForUser(UserEntity user) {
-        Map<String, Object> claims = Map.of(
-                "userID", user.getId(),
-                "roles", user.getRoles().stream()
-                        .map(Role::getName)
-                        .collect(Collectors.toSet())
-        );
+        Set<String> roles = user.getRoles().stream()
+                .map(Role::getName)
+                .collect(Collectors.toSet());
+        UUID familyID = UuidV7.generate();
 
-        String accessToken = jwtService.generateToken(user.getEmail(), claims, JWTServiceImpl.JwtType.ACCESS);
-        String refreshToken = jwtService.generateToken(user.getEmail(), claims, JWTServiceImpl.JwtType.REFRESH);
+        String accessToken = generateAccessToken(user.getId(), user.getEmail(), roles, familyID);
+        String refreshToken = generateRefreshToken(user.getId(), user.getEmail(), roles, familyID, 0);
 
         RefreshTokenEntity refreshTokenEntity =
                 RefreshTokenEntity.builder()
-                        .token(refreshToken)
+                        .familyId(familyID)
+                        .tokenHash(TokenDigestUtil.sha256(refreshToken))
                         .user(user)
                         .expiresAt(jwtService.getExpirationInstant(JWTServiceImpl.JwtType.REFRESH))
                         .revoked(false)
                         .build();
 
         refreshTokenRepository.save(refreshTokenEntity);
-        user.getRefreshTokens().add(refreshTokenEntity);
 
         return Pair.of(accessToken, refreshToken);
     }
+
+    private String generateAccessToken(UUID userID, String email, Set<String> roles, UUID familyID) {
+        Map<String, Object> claims = Map.of(
+                "userID", userID,
+                "roles", roles,
+                RevokedTokenFamilies.FAMILY_CLAIM, familyID.toString()
+        );
+
+        return jwtService.generateToken(email, claims, JWTServiceImpl.JwtType.ACCESS);
+    }
+
+    private String generateRefreshToken(UUID userID, String email, Set<String> roles, UUID familyID, int generation) {
+        Map<String, Object> claims = Map.of(
+                "userID", userID,
+                "roles", roles,
+                RevokedTokenFamilies.FAMILY_CLAIM, familyID.toString(),
+                GENERATION_CLAIM, generation
+        );
+
+        return jwtService.generateToken(email, claims, JWTServiceImpl.JwtType.REFRESH);
+    }
+
+    private record TokenFamily(UUID familyID, String email, int generation, byte[] tokenHash) {
+    }
 }
@@ -1,10 +1,16 @@
 package com.echofyteam.backend.feature.auth.service.impl;
 
+import com.echofyteam.backend.feature.auth.security.VerifiedTokenCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 
 import javax.crypto.SecretKey;
@@ -12,16 +18,27 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * Service for generating and validating JSON Web Tokens (JWT) for authentication.
  * <p>
  * Supports separate handling of access and refresh tokens with distinct secrets and expiration times.
+ * Signing keys and parsers are built once per token type, and verified claims are cached until the token expires.
  * </p>
  */
 @Service
+@RequiredArgsConstructor
 public class JWTServiceImpl {
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<JwtType, SecretKey> signingKeys = new EnumMap<>(JwtType.class);
+    private final Map<JwtType, JwtParser> parsers = new EnumMap<>(JwtType.class);
+    private final Map<JwtType, Timer> verifyTimers = new EnumMap<>(JwtType.class);
+
     @Value("${app.security.jwt.access-secret}")
     private String accessSecret;
 
@@ -42,6 +59,25 @@ public class JWTServiceImpl {
         REFRESH
     }
 
+    /**
+     * Decodes the configured secrets and builds the signing key, parser and verification timer for each token type.
+     */
+    @PostConstruct
+    void initSigningKeys() {
+        signingKeys.put(JwtType.ACCESS, getSigningKey(accessSecret));
+        signingKeys.put(JwtType.REFRESH, getSigningKey(refreshSecret));
+
+        for (JwtType jwtType : JwtType.values()) {
+            parsers.put(jwtType, Jwts.parser()
+                    .verifyWith(signingKeys.get(jwtType))
+                    .build());
+            verifyTimers.put(jwtType, Timer.builder("auth.jwt.verify")
+                    .description("Time spent verifying JWT signatures on verified token cache misses")
+                    .tag("type", jwtType.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * Generates a JWT token with the specified subject and claims.
      *
@@ -60,7 +96,7 @@ public class JWTServiceImpl {
                 .subject(subject)
                 .claims(claims)
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey(jwtType == JwtType.ACCESS ? accessSecret : refreshSecret))
+                .signWith(signingKeys.get(jwtType))
                 .compact();
     }
 
@@ -74,14 +110,24 @@ public class JWTServiceImpl {
      */
     public boolean isValid(String token, String username, JwtType jwtType) {
         try {
-            String extractedUsername = extractUsername(token, jwtType);
-            return extractedUsername.equals(username) && !isExpired(token, jwtType);
+            return isValid(extractAllClaims(token, jwtType), username);
         } catch (Exception e) {
             // Optionally log the exception here
             return false;
         }
     }
 
+    /**
+     * Validates already verified claims by checking if the username matches and the token is not expired.
+     *
+     * @param claims   the verified claims of the token
+     * @param username the username to compare with the token's subject
+     * @return true if the claims belong to the specified username and are not expired; false otherwise
+     */
+    public boolean isValid(Claims claims, String username) {
+        return username.equals(claims.getSubject()) && claims.getExpiration().after(new Date());
+    }
+
     /**
      * Extracts the username (subject) from the JWT token.
      *
@@ -122,6 +168,10 @@ public class JWTServiceImpl {
 
     /**
      * Extracts all claims from the JWT token.
+     * <p>
+     * The signature is verified only on the first call for a token; subsequent calls are served
+     * from the {@link VerifiedTokenCache} until the token expires.
+     * </p>
      *
      * @param token   the JWT token string
      * @param jwtType the type of token (ACCESS or REFRESH)
@@ -129,11 +179,9 @@ public class JWTServiceImpl {
      * @throws io.jsonwebtoken.JwtException if the token is invalid or cannot be parsed
      */
     public Claims extractAllClaims(String token, JwtType jwtType) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey(jwtType == JwtType.ACCESS ? accessSecret : refreshSecret))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return verifiedTokenCache.get(token, jwtType, t -> verifyTimers.get(jwtType).record(() -> parsers.get(jwtType)
+                .parseSignedClaims(t)
+                .getPayload()));
     }
 
     /**
@@ -1,33 +1,138 @@
 package com.echofyteam.backend.feature.auth.service.impl;
 
 import com.echofyteam.backend.feature.auth.repository.RefreshTokenRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Removes expired and revoked refresh tokens in small batches.
+ * <p>
+ * Every batch claims up to {@code batch-size} rows with {@code SKIP LOCKED} and deletes them in its own short
+ * transaction, so no lock is held for longer than one batch and several instances can clean up at the same time
+ * without deleting the same rows or waiting on each other. Batches are separated by a pause to spread the write
+ * load, and a run stops after {@code max-duration}; whatever is left is picked up by the next run.
+ * </p>
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenCleanupService {
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration maxDuration;
+    private final AtomicBoolean running = new AtomicBoolean();
 
-    @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
-    public void removeExpiredTokens() {
-        log.info("Starting cleanup of expired refresh tokens");
-        int deletedCount = refreshTokenRepository.deleteByExpiresAtBefore(Instant.now());
-        log.info("Deleted {} expired refresh tokens", deletedCount);
+    private final Counter deletedCounter;
+    private final Counter batchCounter;
+    private final Timer runTimer;
+
+    public TokenCleanupService(
+            RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.refresh-token.cleanup.batch-size:1000}") int batchSize,
+            @Value("${app.security.refresh-token.cleanup.pause:100ms}") Duration pause,
+            @Value("${app.security.refresh-token.cleanup.max-duration:5m}") Duration maxDuration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.pause = pause;
+        this.maxDuration = maxDuration;
+
+        this.deletedCounter = Counter.builder("auth.refresh_token.cleanup.deleted")
+                .description("Refresh tokens removed by the cleanup")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("auth.refresh_token.cleanup.batches")
+                .description("Refresh token cleanup batches")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("auth.refresh_token.cleanup")
+                .description("Duration of refresh token cleanup runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.security.refresh-token.cleanup.cron:0 */15 * * * *}")
+    public void removeStaleTokens() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Refresh token cleanup is already running - skipping");
+            return;
+        }
+
+        try {
+            runTimer.record(this::cleanup);
+        } finally {
+            running.set(false);
+        }
     }
 
-    @Scheduled(cron = "0 30 3 * * *")
-    @Transactional
-    public void removeRevokedTokens() {
-        log.info("Starting cleanup of revoked refresh tokens");
-        int deletedCount = refreshTokenRepository.deleteByRevokedTrue();
-        log.info("Deleted {} revoked refresh tokens", deletedCount);
+    private void cleanup() {
+        log.info("Starting cleanup of expired and revoked refresh tokens in batches of {}", batchSize);
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+        long deleted = 0;
+        int batches = 0;
+
+        while (true) {
+            Integer batchDeleted = transactionTemplate.execute(status -> deleteBatch());
+            int count = batchDeleted == null ? 0 : batchDeleted;
+            if (count > 0) {
+                deleted += count;
+                batches++;
+                deletedCounter.increment(count);
+                batchCounter.increment();
+            }
+
+            if (count < batchSize) {
+                break;
+            }
+            if (System.nanoTime() >= deadline) {
+                log.info("Refresh token cleanup reached its time limit of {} - continuing in the next run", maxDuration);
+                break;
+            }
+            if (!sleep()) {
+                break;
+            }
+        }
+
+        log.info("Deleted {} expired and revoked refresh tokens in {} batches, took {} ms",
+                deleted, batches, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private int deleteBatch() {
+        List<UUID> ids = refreshTokenRepository.claimRemovableIds(Instant.now(), Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return refreshTokenRepository.deleteByIdIn(ids);
+    }
+
+    private boolean sleep() {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,48 @@
 package com.echofyteam.backend.feature.auth.service.impl;
 
+import com.echofyteam.backend.feature.user.cache.UserCache;
+import com.echofyteam.backend.feature.user.cache.UserSnapshot;
 import com.echofyteam.backend.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String emailOrUsername) throws UsernameNotFoundException {
-        return userRepository.findByEmail(emailOrUsername)
-                .or(() -> userRepository.findByUsername(emailOrUsername))
+        return userCache.getByEmailOrUsername(emailOrUsername, () -> userRepository.findByEmail(emailOrUsername)
+                        .or(() -> userRepository.findByUsername(emailOrUsername)))
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found with username or email: " + emailOrUsername));
     }
+
+    /**
+     * Stores the password re-encoded with the current encoder. Called by the authentication provider after a
+     * successful sign-in whose stored hash uses an outdated algorithm or cost.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserSnapshot snapshot = (UserSnapshot) user;
+
+        userRepository.findById(snapshot.id()).ifPresent(userEntity -> {
+            userEntity.setPassword(newPassword);
+            userRepository.save(userEntity);
+            userCache.invalidate(snapshot.id());
+            log.info("Upgraded password encoding for user with id: {}", snapshot.id());
+        });
+
+        return new UserSnapshot(snapshot.id(), snapshot.email(), newPassword, snapshot.roles(), snapshot.authorities());
+    }
 }
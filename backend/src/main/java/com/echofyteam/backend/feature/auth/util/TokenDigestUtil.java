@@ -0,0 +1,36 @@
+package com.echofyteam.backend.feature.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Helpers for turning raw tokens into fixed-size digests, so tokens can be used as lookup keys
+ * without keeping the token itself around.
+ */
+public class TokenDigestUtil {
+    /**
+     * Computes the SHA-256 digest of the given token.
+     *
+     * @param token the raw token string
+     * @return the 32-byte SHA-256 digest
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 digest of the given token and encodes it as unpadded URL-safe Base64.
+     *
+     * @param token the raw token string
+     * @return the encoded digest
+     */
+    public static String sha256Base64(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+}
@@ -0,0 +1,20 @@
+package com.echofyteam.backend.feature.cache;
+
+/**
+ * Names of the Hibernate second-level cache regions.
+ * <p>
+ * Each region is backed by its own Caffeine cache, whose size and expiration are configured
+ * in {@code application.conf} under {@code caffeine.jcache}.
+ * </p>
+ */
+public final class CacheRegions {
+    public static final String ROLES = "roles";
+    public static final String ROLE_PERMISSIONS = "role-permissions";
+    public static final String PERMISSIONS = "permissions";
+
+    public static final String FLASHCARD_SETS = "flashcard-sets";
+    public static final String FLASHCARDS = "flashcards";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,54 @@
+package com.echofyteam.backend.feature.cache.controller;
+
+import com.echofyteam.backend.feature.cache.dto.response.CacheStatisticsResponse;
+import com.echofyteam.backend.feature.cache.service.CacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Cache administration", description = "API for inspecting and evicting the second-level cache")
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@RequiredArgsConstructor
+public class CacheAdminController {
+    private final CacheService cacheService;
+
+    @Operation(
+            summary = "Get cache statistics",
+            description = "Get hit, miss and put counts of the query cache and of every second-level cache region",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = CacheStatisticsResponse.class)))
+            }
+    )
+    @GetMapping
+    public ResponseEntity<CacheStatisticsResponse> getStatistics() {
+        CacheStatisticsResponse cacheStatisticsResponse = cacheService.getStatistics();
+
+        return ResponseEntity.ok(cacheStatisticsResponse);
+    }
+
+    @Operation(
+            summary = "Evict a cache region",
+            description = "Drop every entry of a second-level cache region, for example after the database was changed outside the application",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Cache region evicted successfully"),
+                    @ApiResponse(responseCode = "404", description = "Cache region not found")
+            }
+    )
+    @DeleteMapping("/regions/{region}")
+    public ResponseEntity<Void> evictRegion(
+            @Parameter(description = "Name of the cache region", required = true, example = "flashcard-sets")
+            @PathVariable String region
+    ) {
+        cacheService.evictRegion(region);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.echofyteam.backend.feature.cache.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * Response DTO with the statistics of a single second-level cache region.
+ *
+ * @param region  the name of the region
+ * @param hits    number of lookups served from the region
+ * @param misses  number of lookups that had to go to the database
+ * @param puts    number of entries put into the region
+ * @param entries number of entries currently held in memory, or -1 if the provider does not report it
+ */
+@Builder
+@Schema(name = "CacheRegionStatisticsResponse", description = "Statistics of a single second-level cache region")
+public record CacheRegionStatisticsResponse(
+        @Schema(description = "Name of the region", example = "flashcard-sets")
+        String region,
+
+        @Schema(description = "Number of lookups served from the region", example = "15230")
+        long hits,
+
+        @Schema(description = "Number of lookups that had to go to the database", example = "412")
+        long misses,
+
+        @Schema(description = "Number of entries put into the region", example = "430")
+        long puts,
+
+        @Schema(description = "Number of entries currently held in memory, or -1 if unknown", example = "398")
+        long entries
+) {
+}
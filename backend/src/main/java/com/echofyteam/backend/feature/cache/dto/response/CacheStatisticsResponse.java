@@ -0,0 +1,35 @@
+package com.echofyteam.backend.feature.cache.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Response DTO with the statistics of the Hibernate second-level and query cache.
+ *
+ * @param statisticsEnabled whether Hibernate collects statistics; all counters stay at zero otherwise
+ * @param queryCacheHits    number of query executions served from the query cache
+ * @param queryCacheMisses  number of cacheable query executions that had to go to the database
+ * @param queryCachePuts    number of query results put into the query cache
+ * @param regions           per-region statistics
+ */
+@Builder
+@Schema(name = "CacheStatisticsResponse", description = "Statistics of the second-level and query cache")
+public record CacheStatisticsResponse(
+        @Schema(description = "Whether Hibernate collects statistics", example = "true")
+        boolean statisticsEnabled,
+
+        @Schema(description = "Number of query executions served from the query cache", example = "9800")
+        long queryCacheHits,
+
+        @Schema(description = "Number of cacheable query executions that had to go to the database", example = "120")
+        long queryCacheMisses,
+
+        @Schema(description = "Number of query results put into the query cache", example = "120")
+        long queryCachePuts,
+
+        @Schema(description = "Per-region statistics")
+        List<CacheRegionStatisticsResponse> regions
+) {
+}
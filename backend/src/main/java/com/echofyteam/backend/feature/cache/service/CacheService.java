@@ -0,0 +1,8 @@
+package com.echofyteam.backend.feature.cache.service;
+
+import com.echofyteam.backend.feature.cache.dto.response.CacheStatisticsResponse;
+
+public interface CacheService {
+    CacheStatisticsResponse getStatistics();
+    void evictRegion(String region);
+}
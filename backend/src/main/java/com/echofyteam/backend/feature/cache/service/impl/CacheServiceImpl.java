@@ -0,0 +1,73 @@
+package com.echofyteam.backend.feature.cache.service.impl;
+
+import com.echofyteam.backend.exception.impl.BusinessException;
+import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import com.echofyteam.backend.feature.cache.dto.response.CacheRegionStatisticsResponse;
+import com.echofyteam.backend.feature.cache.dto.response.CacheStatisticsResponse;
+import com.echofyteam.backend.feature.cache.service.CacheService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheServiceImpl implements CacheService {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public CacheStatisticsResponse getStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+
+        List<CacheRegionStatisticsResponse> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(CacheServiceImpl::toCacheRegionStatisticsResponse)
+                .toList();
+
+        return CacheStatisticsResponse.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .queryCacheHits(statistics.getQueryCacheHitCount())
+                .queryCacheMisses(statistics.getQueryCacheMissCount())
+                .queryCachePuts(statistics.getQueryCachePutCount())
+                .regions(regions)
+                .build();
+    }
+
+    @Override
+    public void evictRegion(String region) {
+        SessionFactory sessionFactory = sessionFactory();
+
+        boolean known = Arrays.asList(sessionFactory.getStatistics().getSecondLevelCacheRegionNames()).contains(region);
+        if (!known) {
+            log.warn("Cache region: {} not found", region);
+            throw new BusinessException(BusinessExceptionReason.CACHE_REGION_NOT_FOUND, region);
+        }
+
+        sessionFactory.getCache().evictRegion(region);
+        log.info("Evicted cache region: {}", region);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private static CacheRegionStatisticsResponse toCacheRegionStatisticsResponse(CacheRegionStatistics statistics) {
+        return CacheRegionStatisticsResponse.builder()
+                .region(statistics.getRegionName())
+                .hits(statistics.getHitCount())
+                .misses(statistics.getMissCount())
+                .puts(statistics.getPutCount())
+                .entries(statistics.getElementCountInMemory())
+                .build();
+    }
+}
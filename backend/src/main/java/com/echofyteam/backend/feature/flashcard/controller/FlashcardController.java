@@ -1,8 +1,11 @@
 package com.echofyteam.backend.feature.flashcard.controller;
 
+import com.echofyteam.backend.feature.flashcard.dto.request.BatchFlashcardProgressRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardProgressRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.dto.response.BatchFlashcardProgressResponse;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportReport;
 import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardResponse;
 import com.echofyteam.backend.feature.flashcard.dto.response.UserFlashcardProgressResponse;
 import com.echofyteam.backend.feature.flashcard.service.FlashcardService;
@@ -19,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +33,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FlashcardController {
     private final FlashcardService flashcardService;
+    private final FlashcardSetHttpCache flashcardSetHttpCache;
 
     @Operation(
             summary = "Get all flashcards",
@@ -42,12 +47,11 @@ public class FlashcardController {
     public ResponseEntity<Page<FlashcardResponse>> getAllFlashcards(
             @Parameter(description = "UUID of the flashcard set", required = true)
             @PathVariable UUID flashcardSetID,
-            @Parameter(hidden = true) Pageable pageable
+            @Parameter(hidden = true) Pageable pageable,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
-        Page<FlashcardResponse> flashcardResponses =
-                flashcardService.getAllFlashcards(flashcardSetID, pageable);
-
-        return ResponseEntity.ok(flashcardResponses);
+        return flashcardSetHttpCache.respond(flashcardSetID, webRequest,
+                () -> flashcardService.getAllFlashcards(flashcardSetID, pageable));
     }
 
     @Operation(
@@ -64,17 +68,17 @@ public class FlashcardController {
             @Parameter(description = "UUID of the flashcard set", required = true)
             @PathVariable UUID flashcardSetID,
             @Parameter(description = "UUID of the flashcard", required = true)
-            @PathVariable UUID flashcardID
+            @PathVariable UUID flashcardID,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
-        FlashcardResponse flashcardResponse =
-                flashcardService.getFlashcardByID(flashcardSetID, flashcardID);
-
-        return ResponseEntity.ok(flashcardResponse);
+        return flashcardSetHttpCache.respond(flashcardSetID, webRequest,
+                () -> flashcardService.getFlashcardByID(flashcardSetID, flashcardID));
     }
 
     @Operation(
             summary = "Get random flashcard",
-            description = "Retrieve a random flashcard from the specified flashcard set",
+            description = "Retrieve a random flashcard from the specified flashcard set. " +
+                    "In shuffle mode every card of the set is returned once before any card repeats",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Random flashcard retrieved successfully",
                             content = @Content(schema = @Schema(implementation = FlashcardResponse.class))),
@@ -84,14 +88,38 @@ public class FlashcardController {
     @GetMapping("/random")
     public ResponseEntity<FlashcardResponse> getRandomFlashcard(
             @Parameter(description = "UUID of the flashcard set", required = true)
-            @PathVariable UUID flashcardSetID
+            @PathVariable UUID flashcardSetID,
+            @Parameter(description = "Draw from the user's no-repeat shuffle deck instead of uniformly at random")
+            @RequestParam(defaultValue = "false") boolean shuffle
     ) {
         FlashcardResponse flashcardResponse =
-                flashcardService.getRandomFlashcard(flashcardSetID);
+                flashcardService.getRandomFlashcard(flashcardSetID, shuffle);
 
         return ResponseEntity.ok(flashcardResponse);
     }
 
+    @Operation(
+            summary = "Get due flashcards",
+            description = "Retrieve the flashcards of the specified set that are due for review, most overdue first. " +
+                    "If fewer cards are due than requested, the list is filled up with cards the user has not reviewed yet",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Due flashcards retrieved successfully"),
+                    @ApiResponse(responseCode = "404", description = "FlashcardEntity set not found")
+            }
+    )
+    @GetMapping("/due")
+    public ResponseEntity<List<FlashcardResponse>> getDueFlashcards(
+            @Parameter(description = "UUID of the flashcard set", required = true)
+            @PathVariable UUID flashcardSetID,
+            @Parameter(description = "Maximum number of flashcards to return (1-100)")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<FlashcardResponse> flashcardResponses =
+                flashcardService.getDueFlashcards(flashcardSetID, limit);
+
+        return ResponseEntity.ok(flashcardResponses);
+    }
+
     @Operation(
             summary = "Create a new flashcard",
             description = "Create a new flashcard in the specified flashcard set",
@@ -116,7 +144,9 @@ public class FlashcardController {
 
     @Operation(
             summary = "Batch create flashcards",
-            description = "Create multiple flashcards in the specified flashcard set",
+            description = "Create multiple flashcards in the specified flashcard set. " +
+                    "The flashcards are inserted in chunks that are committed independently, so the batch is not " +
+                    "all-or-nothing: if a later chunk fails, the flashcards of the earlier chunks remain in the set",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Flashcards created successfully",
                             content = @Content(schema = @Schema(implementation = FlashcardResponse.class)))
@@ -135,6 +165,30 @@ public class FlashcardController {
         return ResponseEntity.status(HttpStatus.CREATED).body(flashcardResponses);
     }
 
+    @Operation(
+            summary = "Import flashcards",
+            description = "Import a large number of flashcards into the specified flashcard set. " +
+                    "Rows are validated and de-duplicated individually and inserted in chunks; " +
+                    "invalid rows and words that already exist are skipped and reported instead of failing the import",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import completed",
+                            content = @Content(schema = @Schema(implementation = FlashcardImportReport.class))),
+                    @ApiResponse(responseCode = "404", description = "FlashcardEntity set not found")
+            }
+    )
+    @PostMapping("/import")
+    public ResponseEntity<FlashcardImportReport> importFlashcards(
+            @Parameter(description = "UUID of the flashcard set", required = true)
+            @PathVariable UUID flashcardSetID,
+            @Parameter(description = "List of flashcard creation payloads", required = true)
+            @RequestBody List<CreateFlashcardRequest> createFlashcardRequests
+    ) {
+        FlashcardImportReport flashcardImportReport =
+                flashcardService.importFlashcards(flashcardSetID, createFlashcardRequests);
+
+        return ResponseEntity.ok(flashcardImportReport);
+    }
+
     @Operation(
             summary = "Partially update a flashcard",
             description = "Partially update fields of a flashcard in the specified flashcard set",
@@ -184,6 +238,31 @@ public class FlashcardController {
         return ResponseEntity.ok(userFlashcardProgressResponse);
     }
 
+    @Operation(
+            summary = "Batch update flashcard progress",
+            description = "Apply the reviews of a whole study session for the current user in one request. " +
+                    "Reviews are replayed in timestamp order; duplicates and reviews not newer than the stored progress are skipped, " +
+                    "so a session can safely be resubmitted",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Progress updated successfully",
+                            content = @Content(schema = @Schema(implementation = BatchFlashcardProgressResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "FlashcardEntity set not found"),
+                    @ApiResponse(responseCode = "400", description = "Invalid input data")
+            }
+    )
+    @PostMapping("/progress/batch")
+    public ResponseEntity<BatchFlashcardProgressResponse> batchUpdateFlashcardProgress(
+            @Parameter(description = "UUID of the flashcard set", required = true)
+            @PathVariable UUID flashcardSetID,
+            @Parameter(description = "Reviews recorded during the study session", required = true)
+            @RequestBody @Valid BatchFlashcardProgressRequest batchFlashcardProgressRequest
+    ) {
+        BatchFlashcardProgressResponse batchFlashcardProgressResponse =
+                flashcardService.batchUpdateFlashcardProgress(flashcardSetID, batchFlashcardProgressRequest);
+
+        return ResponseEntity.ok(batchFlashcardProgressResponse);
+    }
+
     @Operation(
             summary = "Delete a flashcard",
             description = "Delete a flashcard from the specified flashcard set",
@@ -2,7 +2,10 @@ package com.echofyteam.backend.feature.flashcard.controller;
 
 import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardSetRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardSetRequest;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportReport;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardSetCursorPage;
 import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardSetResponse;
+import com.echofyteam.backend.feature.flashcard.exchange.FlashcardExchangeFormat;
 import com.echofyteam.backend.feature.flashcard.service.FlashcardSetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,10 +17,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 @Tag(name = "FlashcardEntity Sets", description = "API for managing flashcard sets")
@@ -26,6 +35,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FlashcardSetController {
     private final FlashcardSetService flashcardSetService;
+    private final FlashcardSetHttpCache flashcardSetHttpCache;
 
     @Operation(
             summary = "Get all public flashcard sets",
@@ -63,6 +73,56 @@ public class FlashcardSetController {
         return ResponseEntity.ok(flashcardSetResponses);
     }
 
+    @Operation(
+            summary = "Scroll public flashcard sets",
+            description = "Retrieve public flashcard sets newest first using cursor pagination. " +
+                    "Pass the returned nextCursor to fetch the following page; the total count is only computed on request",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "FlashcardEntity sets retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = FlashcardSetCursorPage.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    @GetMapping("/public/scroll")
+    public ResponseEntity<FlashcardSetCursorPage> getPublicFlashcardSets(
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to include the total number of sets")
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        FlashcardSetCursorPage flashcardSetCursorPage =
+                flashcardSetService.getPublicFlashcardSets(cursor, size, includeTotal);
+
+        return ResponseEntity.ok(flashcardSetCursorPage);
+    }
+
+    @Operation(
+            summary = "Scroll personal flashcard sets",
+            description = "Retrieve the current user's flashcard sets newest first using cursor pagination. " +
+                    "Pass the returned nextCursor to fetch the following page; the total count is only computed on request",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "FlashcardEntity sets retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = FlashcardSetCursorPage.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    @GetMapping("/personal/scroll")
+    public ResponseEntity<FlashcardSetCursorPage> getPersonalFlashcardSets(
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to include the total number of sets")
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        FlashcardSetCursorPage flashcardSetCursorPage =
+                flashcardSetService.getPersonalFlashcardSets(cursor, size, includeTotal);
+
+        return ResponseEntity.ok(flashcardSetCursorPage);
+    }
+
     @Operation(
             summary = "Get flashcard set by ID",
             description = "Retrieve a flashcard set by its UUID",
@@ -75,12 +135,11 @@ public class FlashcardSetController {
     @GetMapping("/{flashcardSetID}")
     public ResponseEntity<FlashcardSetResponse> getFlashcardSetByID(
             @Parameter(description = "UUID of the flashcard set", required = true)
-            @PathVariable UUID flashcardSetID
+            @PathVariable UUID flashcardSetID,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
-        FlashcardSetResponse flashcardSetResponse =
-                flashcardSetService.getFlashcardSetByID(flashcardSetID);
-
-        return ResponseEntity.ok(flashcardSetResponse);
+        return flashcardSetHttpCache.respond(flashcardSetID, webRequest,
+                () -> flashcardSetService.getFlashcardSetByID(flashcardSetID));
     }
 
     @Operation(
@@ -143,4 +202,57 @@ public class FlashcardSetController {
 
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Export a flashcard set",
+            description = "Stream all flashcards of a flashcard set, including their use examples, as CSV, TSV or NDJSON",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "FlashcardEntity set export started"),
+                    @ApiResponse(responseCode = "400", description = "Unsupported format"),
+                    @ApiResponse(responseCode = "404", description = "FlashcardEntity set not found")
+            }
+    )
+    @GetMapping("/{flashcardSetID}/export")
+    public ResponseEntity<StreamingResponseBody> exportFlashcardSet(
+            @Parameter(description = "UUID of the flashcard set", required = true)
+            @PathVariable UUID flashcardSetID,
+            @Parameter(description = "Export format: csv, tsv or ndjson")
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        FlashcardExchangeFormat exchangeFormat = FlashcardExchangeFormat.from(format);
+        StreamingResponseBody body = flashcardSetService.exportFlashcardSet(flashcardSetID, exchangeFormat);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exchangeFormat.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(flashcardSetID + "." + exchangeFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Import flashcards into a flashcard set",
+            description = "Stream flashcards from a CSV, TSV or NDJSON request body into a flashcard set. " +
+                    "The body is parsed incrementally and inserted in chunks; invalid rows and existing words are skipped and reported",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import completed",
+                            content = @Content(schema = @Schema(implementation = FlashcardImportReport.class))),
+                    @ApiResponse(responseCode = "400", description = "Unsupported format or malformed file"),
+                    @ApiResponse(responseCode = "404", description = "FlashcardEntity set not found")
+            }
+    )
+    @PostMapping(value = "/{flashcardSetID}/import", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<FlashcardImportReport> importFlashcardSet(
+            @Parameter(description = "UUID of the flashcard set", required = true)
+            @PathVariable UUID flashcardSetID,
+            @Parameter(description = "Import format: csv, tsv or ndjson")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(hidden = true) InputStream body
+    ) {
+        FlashcardImportReport flashcardImportReport =
+                flashcardSetService.importFlashcardSet(flashcardSetID, FlashcardExchangeFormat.from(format), body);
+
+        return ResponseEntity.ok(flashcardImportReport);
+    }
 }
@@ -0,0 +1,67 @@
+package com.echofyteam.backend.feature.flashcard.controller;
+
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetVersion;
+import com.echofyteam.backend.feature.flashcard.service.FlashcardSetService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for reads of a flashcard set and its flashcards.
+ * <p>
+ * The strong ETag and Last-Modified are derived from the set's content version, which is bumped whenever the set
+ * or any of its flashcards changes. A matching {@code If-None-Match} or {@code If-Modified-Since} is answered with
+ * 304 after a single version lookup, before any flashcards are loaded. Public sets may be stored by shared caches
+ * for a short time; private sets are only cached by the client and always revalidated.
+ * </p>
+ */
+@Component
+public class FlashcardSetHttpCache {
+    private final FlashcardSetService flashcardSetService;
+    private final Duration publicMaxAge;
+
+    public FlashcardSetHttpCache(
+            FlashcardSetService flashcardSetService,
+            @Value("${app.http-cache.public-max-age:60s}") Duration publicMaxAge) {
+        this.flashcardSetService = flashcardSetService;
+        this.publicMaxAge = publicMaxAge;
+    }
+
+    /**
+     * Answers the request with 304 if the client's copy is current, otherwise with 200 and the loaded body.
+     *
+     * @param flashcardSetID the unique identifier of the flashcard set the response depends on
+     * @param request        the current request, checked for conditional headers
+     * @param body           loads the response body; only called when the client's copy is stale
+     * @return the response with validators and caching headers
+     */
+    public <T> ResponseEntity<T> respond(UUID flashcardSetID, WebRequest request, Supplier<T> body) {
+        FlashcardSetVersion version = flashcardSetService.getFlashcardSetVersion(flashcardSetID);
+
+        String eTag = "\"" + version.id() + "-" + version.contentVersion() + "\"";
+        long lastModified = version.updatedAt() == null ? -1 : version.updatedAt().toEpochMilli();
+        CacheControl cacheControl = version.publicFlag()
+                ? CacheControl.maxAge(publicMaxAge).cachePublic().mustRevalidate()
+                : CacheControl.noCache().cachePrivate();
+
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+}
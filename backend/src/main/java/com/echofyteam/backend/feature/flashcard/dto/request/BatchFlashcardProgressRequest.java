@@ -0,0 +1,24 @@
+package com.echofyteam.backend.feature.flashcard.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO for submitting the reviews of a whole study session at once.
+ *
+ * @param events the reviews recorded by the client, in any order
+ */
+@Builder
+@Schema(name = "BatchFlashcardProgressRequest", description = "Request payload to submit many flashcard reviews at once")
+public record BatchFlashcardProgressRequest(
+        @NotEmpty(message = "Events list must not be empty")
+        @Size(max = 1000, message = "Events list can contain at most 1000 items")
+        @Schema(description = "Reviews recorded by the client", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<@Valid @NotNull(message = "Event must not be null") FlashcardReviewEvent> events
+) {}
@@ -0,0 +1,30 @@
+package com.echofyteam.backend.feature.flashcard.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO for a single review recorded by the client during a study session.
+ *
+ * @param flashcardID the unique identifier of the reviewed flashcard
+ * @param isUnsure    indicates whether the user was unsure about the flashcard
+ * @param reviewedAt  the client timestamp of the review
+ */
+@Builder
+@Schema(name = "FlashcardReviewEvent", description = "A single flashcard review recorded by the client")
+public record FlashcardReviewEvent(
+        @NotNull(message = "Flashcard ID must be specified")
+        @Schema(description = "UUID of the reviewed flashcard", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID flashcardID,
+
+        @Schema(description = "Flag indicating if the user was unsure about the flashcard", example = "false", requiredMode = Schema.RequiredMode.REQUIRED)
+        boolean isUnsure,
+
+        @NotNull(message = "Review timestamp must be specified")
+        @Schema(description = "Client timestamp of the review", example = "2025-07-10T10:15:30Z", requiredMode = Schema.RequiredMode.REQUIRED)
+        Instant reviewedAt
+) {}
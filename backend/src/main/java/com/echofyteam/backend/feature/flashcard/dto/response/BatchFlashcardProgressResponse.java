@@ -0,0 +1,27 @@
+package com.echofyteam.backend.feature.flashcard.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO summarizing the outcome of a batch progress submission.
+ *
+ * @param applied             the number of reviews applied to the user's progress
+ * @param skipped             the number of reviews skipped as duplicates, stale or from the future
+ * @param unknownFlashcardIDs the flashcard ids that do not belong to the set
+ */
+@Builder
+@Schema(name = "BatchFlashcardProgressResponse", description = "Outcome of a batch flashcard progress submission")
+public record BatchFlashcardProgressResponse(
+        @Schema(description = "Number of reviews applied", example = "198", requiredMode = Schema.RequiredMode.REQUIRED)
+        int applied,
+
+        @Schema(description = "Number of reviews skipped as duplicates, stale or from the future", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+        int skipped,
+
+        @Schema(description = "Flashcard IDs that do not belong to the set", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<UUID> unknownFlashcardIDs
+) {}
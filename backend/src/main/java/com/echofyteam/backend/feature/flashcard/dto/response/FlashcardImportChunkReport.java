@@ -0,0 +1,36 @@
+package com.echofyteam.backend.feature.flashcard.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * DTO describing the outcome of a single chunk of a flashcard import.
+ *
+ * @param chunk          the zero-based index of the chunk
+ * @param rows           the number of rows in the chunk
+ * @param created        the number of flashcards created from the chunk
+ * @param duplicates     the number of rows skipped because the word already exists
+ * @param invalid        the number of rows rejected by validation
+ * @param durationMillis the time spent on the chunk in milliseconds
+ */
+@Builder
+@Schema(name = "FlashcardImportChunkReport", description = "Outcome of a single chunk of a flashcard import")
+public record FlashcardImportChunkReport(
+        @Schema(description = "Zero-based index of the chunk", example = "0", requiredMode = Schema.RequiredMode.REQUIRED)
+        int chunk,
+
+        @Schema(description = "Number of rows in the chunk", example = "500", requiredMode = Schema.RequiredMode.REQUIRED)
+        int rows,
+
+        @Schema(description = "Number of flashcards created", example = "497", requiredMode = Schema.RequiredMode.REQUIRED)
+        int created,
+
+        @Schema(description = "Number of rows skipped as duplicate words", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+        int duplicates,
+
+        @Schema(description = "Number of rows rejected by validation", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+        int invalid,
+
+        @Schema(description = "Time spent on the chunk in milliseconds", example = "120", requiredMode = Schema.RequiredMode.REQUIRED)
+        long durationMillis
+) {}
@@ -0,0 +1,20 @@
+package com.echofyteam.backend.feature.flashcard.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * DTO describing a row rejected during a flashcard import.
+ *
+ * @param row     the zero-based index of the row in the import
+ * @param message the validation message
+ */
+@Builder
+@Schema(name = "FlashcardImportError", description = "A row rejected during a flashcard import")
+public record FlashcardImportError(
+        @Schema(description = "Zero-based index of the row in the import", example = "42", requiredMode = Schema.RequiredMode.REQUIRED)
+        long row,
+
+        @Schema(description = "Validation message", example = "word: Word must not be blank", requiredMode = Schema.RequiredMode.REQUIRED)
+        String message
+) {}
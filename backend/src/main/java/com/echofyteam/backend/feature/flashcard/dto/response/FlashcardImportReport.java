@@ -0,0 +1,38 @@
+package com.echofyteam.backend.feature.flashcard.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO summarizing a flashcard import.
+ *
+ * @param rows       the total number of rows read
+ * @param created    the total number of flashcards created
+ * @param duplicates the total number of rows skipped because the word already exists
+ * @param invalid    the total number of rows rejected by validation
+ * @param chunks     the per-chunk outcome, in import order
+ * @param errors     the first rejected rows with their validation messages
+ */
+@Builder
+@Schema(name = "FlashcardImportReport", description = "Summary of a flashcard import")
+public record FlashcardImportReport(
+        @Schema(description = "Total number of rows read", example = "10000", requiredMode = Schema.RequiredMode.REQUIRED)
+        long rows,
+
+        @Schema(description = "Total number of flashcards created", example = "9950", requiredMode = Schema.RequiredMode.REQUIRED)
+        long created,
+
+        @Schema(description = "Total number of rows skipped as duplicate words", example = "45", requiredMode = Schema.RequiredMode.REQUIRED)
+        long duplicates,
+
+        @Schema(description = "Total number of rows rejected by validation", example = "5", requiredMode = Schema.RequiredMode.REQUIRED)
+        long invalid,
+
+        @Schema(description = "Per-chunk outcome in import order", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<FlashcardImportChunkReport> chunks,
+
+        @Schema(description = "First rejected rows with their validation messages", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<FlashcardImportError> errors
+) {}
@@ -0,0 +1,27 @@
+package com.echofyteam.backend.feature.flashcard.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Response DTO representing one page of a cursor-paginated flashcard set listing.
+ *
+ * @param content       flashcard sets of the page, newest first
+ * @param nextCursor    opaque token to request the next page, or {@code null} on the last page
+ * @param totalElements total number of sets in the listing, present only when requested
+ */
+@Builder
+@Schema(name = "FlashcardSetCursorPage", description = "One page of a cursor-paginated flashcard set listing")
+public record FlashcardSetCursorPage(
+        @Schema(description = "Flashcard sets of the page, newest first")
+        List<FlashcardSetResponse> content,
+
+        @Schema(description = "Opaque token to request the next page, absent on the last page", example = "MjAyNS0wNy0xMFQxMDoxNTozMFp8M2ZhODVmNjQtNTcxNy00NTYyLWIzZmMtMmM5NjNmNjZhZmE2")
+        String nextCursor,
+
+        @Schema(description = "Total number of sets in the listing, only present when requested", example = "1234")
+        Long totalElements
+) {
+}
@@ -13,6 +13,9 @@ import java.time.Instant;
  * @param learningLevel     the current learning level of the flashcard for the user
  * @param repetitionCount   the number of times the flashcard has been reviewed
  * @param lastReviewedAt    the timestamp of the most recent review
+ * @param easeFactor        the SM-2 ease factor of the flashcard for the user
+ * @param intervalDays      the current review interval in days
+ * @param dueAt             the timestamp when the flashcard is due for the next review
  */
 @Builder
 @Schema(name = "UserFlashcardProgressResponse", description = "Response object representing user's learning progress on a flashcard")
@@ -27,5 +30,14 @@ public record UserFlashcardProgressResponse(
         int repetitionCount,
 
         @Schema(description = "Timestamp of the last time this flashcard was reviewed", example = "2025-07-05T10:15:30Z", requiredMode = Schema.RequiredMode.REQUIRED)
-        Instant lastReviewedAt
+        Instant lastReviewedAt,
+
+        @Schema(description = "SM-2 ease factor of this flashcard for the user", example = "2.5", requiredMode = Schema.RequiredMode.REQUIRED)
+        double easeFactor,
+
+        @Schema(description = "Current review interval in days", example = "6", requiredMode = Schema.RequiredMode.REQUIRED)
+        int intervalDays,
+
+        @Schema(description = "Timestamp when this flashcard is due for the next review", example = "2025-07-11T10:15:30Z", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        Instant dueAt
 ) {}
\ No newline at end of file
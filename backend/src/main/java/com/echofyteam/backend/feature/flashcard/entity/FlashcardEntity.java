@@ -1,7 +1,13 @@
 package com.echofyteam.backend.feature.flashcard.entity;
 
+import com.echofyteam.backend.feature.cache.CacheRegions;
+import com.echofyteam.backend.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,10 +19,17 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "flashcards")
+@Table(
+        name = "flashcards",
+        indexes = {
+                @Index(name = "idx_flashcard_set_id", columnList = "set_id"),
+                @Index(name = "idx_flashcard_set_word", columnList = "set_id, word")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.FLASHCARDS)
 public class FlashcardEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -31,12 +44,12 @@ public class FlashcardEntity {
     @Column(name = "difficulty_level", nullable = false)
     private FlashcardDifficultyLevel difficultyLevel;
 
-    @ElementCollection
-    @CollectionTable(
-            name = "flashcard_use_examples",
-            joinColumns = @JoinColumn(name = "flashcard_id")
-    )
-    @Column(name = "example")
+    /**
+     * Use examples, stored inline with {@link UseExamplesConverter}.
+     */
+    @Convert(converter = UseExamplesConverter.class)
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(name = "use_examples")
     @Builder.Default
     private List<String> useExamples = new ArrayList<>();
 
@@ -1,8 +1,13 @@
 package com.echofyteam.backend.feature.flashcard.entity;
 
+import com.echofyteam.backend.feature.cache.CacheRegions;
 import com.echofyteam.backend.feature.user.entity.UserEntity;
+import com.echofyteam.backend.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,11 +23,18 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "flashcard_sets")
+@Table(
+        name = "flashcard_sets",
+        indexes = {
+                @Index(name = "idx_flashcard_set_public_created", columnList = "public_flag, created_at, id"),
+                @Index(name = "idx_flashcard_set_author_created", columnList = "author_id, created_at, id")
+        }
+)
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.FLASHCARD_SETS)
 public class FlashcardSetEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -47,6 +59,18 @@ public class FlashcardSetEntity {
     @JoinColumn(name = "author_id")
     private UserEntity author;
 
+    /**
+     * Number of flashcards in the set, maintained on every card write so that neither the flashcards
+     * collection nor a count query is needed to read it. -1 marks sets whose count has not been backfilled yet.
+     */
+    @Column(name = "card_count", nullable = false)
+    @ColumnDefault("-1")
+    private long cardCount;
+
+    @Column(name = "content_version", nullable = false)
+    @ColumnDefault("0")
+    private long contentVersion;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -0,0 +1,64 @@
+package com.echofyteam.backend.feature.flashcard.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores a flashcard's use examples inline in a single text column.
+ * <p>
+ * Every example is written as its length in characters, a colon and the example itself, e.g.
+ * {@code 12:I ate apples5:Hello}. Examples may contain any character, including colons and digits, and the
+ * encoding works the same on every database. An empty list is stored as an empty string and {@code null} as
+ * {@code null}, so a partial update can pass {@code null} to keep the stored examples. A {@code null} column is
+ * read back as an empty list.
+ * </p>
+ */
+@Converter
+public class UseExamplesConverter implements AttributeConverter<List<String>, String> {
+    private static final char SEPARATOR = ':';
+
+    @Override
+    public String convertToDatabaseColumn(List<String> useExamples) {
+        if (useExamples == null) {
+            return null;
+        }
+        if (useExamples.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder encoded = new StringBuilder();
+        for (String example : useExamples) {
+            encoded.append(example.length()).append(SEPARATOR).append(example);
+        }
+        return encoded.toString();
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String encoded) {
+        List<String> useExamples = new ArrayList<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return useExamples;
+        }
+
+        int offset = 0;
+        while (offset < encoded.length()) {
+            int separator = encoded.indexOf(SEPARATOR, offset);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed use examples at offset " + offset);
+            }
+
+            int start = separator + 1;
+            int end = start + Integer.parseInt(encoded, offset, separator, 10);
+            if (end > encoded.length()) {
+                throw new IllegalArgumentException("Malformed use examples at offset " + offset);
+            }
+
+            useExamples.add(encoded.substring(start, end));
+            offset = end;
+        }
+        return useExamples;
+    }
+}
@@ -1,8 +1,10 @@
 package com.echofyteam.backend.feature.flashcard.entity;
 
 import com.echofyteam.backend.feature.user.entity.UserEntity;
+import com.echofyteam.backend.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -15,15 +17,18 @@ import java.util.UUID;
 @Entity
 @Table(
         name = "user_flashcard_progresses",
+        uniqueConstraints = @UniqueConstraint(name = UserFlashcardProgressEntity.USER_FLASHCARD_CONSTRAINT, columnNames = {"user_id", "flashcard_id"}),
         indexes = {
-                @Index(name = "idx_user_flashcard", columnList = "user_id, flashcard_id"),
                 @Index(name = "idx_user_id", columnList = "user_id"),
-                @Index(name = "idx_flashcard_id", columnList = "flashcard_id")
+                @Index(name = "idx_flashcard_id", columnList = "flashcard_id"),
+                @Index(name = "idx_user_due_at", columnList = "user_id, due_at")
         }
 )
 public class UserFlashcardProgressEntity {
+    public static final String USER_FLASHCARD_CONSTRAINT = "uk_user_flashcard_progress";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -43,4 +48,21 @@ public class UserFlashcardProgressEntity {
 
     @Column(name = "last_reviewed_at")
     private Instant lastReviewedAt;
+
+    // Spaced repetition (SM-2)
+    @Column(name = "ease_factor", nullable = false)
+    @ColumnDefault("2.5")
+    @Builder.Default
+    private double easeFactor = 2.5;
+
+    @Column(name = "interval_days", nullable = false)
+    @ColumnDefault("0")
+    private int intervalDays;
+
+    @Column(name = "streak", nullable = false)
+    @ColumnDefault("0")
+    private int streak;
+
+    @Column(name = "due_at")
+    private Instant dueAt;
 }
@@ -0,0 +1,35 @@
+package com.echofyteam.backend.feature.flashcard.exchange;
+
+import com.echofyteam.backend.exception.impl.BusinessException;
+import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * File formats supported by flashcard set import and export.
+ * <p>
+ * CSV and TSV files start with a header row naming the columns; NDJSON files hold one
+ * {@code CreateFlashcardRequest} JSON object per line.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public enum FlashcardExchangeFormat {
+    CSV(',', "text/csv", "csv"),
+    TSV('\t', "text/tab-separated-values", "tsv"),
+    NDJSON('\n', "application/x-ndjson", "ndjson");
+
+    private final char delimiter;
+    private final String mediaType;
+    private final String extension;
+
+    public static FlashcardExchangeFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(BusinessExceptionReason.UNSUPPORTED_EXCHANGE_FORMAT, value);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.echofyteam.backend.feature.flashcard.exchange;
+
+import com.echofyteam.backend.exception.impl.BusinessException;
+import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardDifficultyLevel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Parses flashcards incrementally from one of the {@link FlashcardExchangeFormat}s.
+ * <p>
+ * Only the current row is held in memory. CSV and TSV columns are matched by the header row, so columns may come
+ * in any order and unknown columns are ignored. Rows with missing or malformed values are still returned, so
+ * the import pipeline can reject them individually; only structurally broken input (an unterminated CSV quote or
+ * an unparsable JSON line) aborts the import.
+ * </p>
+ */
+public class FlashcardExchangeReader implements Iterator<CreateFlashcardRequest>, Closeable {
+    private static final int BYTE_ORDER_MARK = '\uFEFF';
+
+    private final FlashcardExchangeFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+
+    private Map<String, Integer> columns;
+    private CreateFlashcardRequest next;
+    private long line;
+
+    public FlashcardExchangeReader(FlashcardExchangeFormat format, BufferedReader reader, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public CreateFlashcardRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        CreateFlashcardRequest current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private CreateFlashcardRequest readNext() throws IOException {
+        if (line == 0) {
+            skipByteOrderMark();
+        }
+
+        if (format == FlashcardExchangeFormat.NDJSON) {
+            return readJsonLine();
+        }
+
+        if (columns == null) {
+            List<String> header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            columns = indexColumns(header);
+        }
+
+        List<String> record = readRecord();
+        return record == null ? null : toRequest(record);
+    }
+
+    /**
+     * Skips the byte order mark that spreadsheet tools such as Excel put in front of UTF-8 exports, so it does not
+     * end up in the first header column (or in front of an opening quote) and hide the {@code word} column.
+     */
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+    }
+
+    private CreateFlashcardRequest readJsonLine() throws IOException {
+        String json;
+        do {
+            json = reader.readLine();
+            line++;
+            if (json == null) {
+                return null;
+            }
+        } while (json.isBlank());
+
+        try {
+            return objectMapper.readValue(json, CreateFlashcardRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(BusinessExceptionReason.INVALID_IMPORT_FILE, line, e.getOriginalMessage());
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> record;
+        do {
+            record = format == FlashcardExchangeFormat.CSV ? readCsvRecord() : readTsvRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.getFirst().isEmpty());
+
+        return record;
+    }
+
+    private List<String> readTsvRecord() throws IOException {
+        String text = reader.readLine();
+        if (text == null) {
+            return null;
+        }
+        line++;
+
+        String[] fields = text.split("\t", -1);
+        List<String> record = new ArrayList<>(fields.length);
+        for (String field : fields) {
+            record.add(unescapeTsv(field));
+        }
+        return record;
+    }
+
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        line++;
+        long startLine = line;
+
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (c == -1) {
+                if (quoted) {
+                    throw new BusinessException(BusinessExceptionReason.INVALID_IMPORT_FILE, startLine, "unterminated quoted field");
+                }
+                break;
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+
+            c = reader.read();
+        }
+
+        record.add(field.toString());
+        return record;
+    }
+
+    private Map<String, Integer> indexColumns(List<String> header) {
+        Map<String, Integer> indexed = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            indexed.putIfAbsent(header.get(i).trim(), i);
+        }
+
+        if (!indexed.containsKey("word")) {
+            throw new BusinessException(BusinessExceptionReason.INVALID_IMPORT_FILE, line, "header has no 'word' column");
+        }
+        return indexed;
+    }
+
+    private CreateFlashcardRequest toRequest(List<String> record) {
+        String translation = column(record, "translation");
+
+        return CreateFlashcardRequest.builder()
+                .word(column(record, "word"))
+                .description(column(record, "description"))
+                .translation(translation == null || translation.isEmpty() ? null : translation)
+                .difficultyLevel(parseDifficultyLevel(column(record, "difficultyLevel")))
+                .useExamples(splitExamples(column(record, "useExamples")))
+                .build();
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= record.size() ? null : record.get(index);
+    }
+
+    private static FlashcardDifficultyLevel parseDifficultyLevel(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return FlashcardDifficultyLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<String> splitExamples(String value) {
+        if (value == null || value.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> examples = new ArrayList<>();
+        StringBuilder example = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                example.append(value.charAt(++i));
+            } else if (c == FlashcardExchangeWriter.EXAMPLE_SEPARATOR) {
+                examples.add(example.toString());
+                example.setLength(0);
+            } else {
+                example.append(c);
+            }
+        }
+        examples.add(example.toString());
+        return examples;
+    }
+
+    private static String unescapeTsv(String field) {
+        if (field.indexOf('\\') < 0) {
+            return field;
+        }
+
+        StringBuilder unescaped = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\' && i + 1 < field.length()) {
+                char escaped = field.charAt(++i);
+                switch (escaped) {
+                    case 't' -> unescaped.append('\t');
+                    case 'n' -> unescaped.append('\n');
+                    case 'r' -> unescaped.append('\r');
+                    default -> unescaped.append(escaped);
+                }
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.echofyteam.backend.feature.flashcard.exchange;
+
+import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes flashcards one row at a time in one of the {@link FlashcardExchangeFormat}s.
+ * <p>
+ * CSV fields are quoted per RFC 4180, TSV fields escape tabs, line breaks and backslashes, and use examples
+ * are joined into a single column separated by {@code |}.
+ * </p>
+ */
+public class FlashcardExchangeWriter {
+    static final List<String> COLUMNS = List.of("word", "description", "translation", "difficultyLevel", "useExamples");
+    static final char EXAMPLE_SEPARATOR = '|';
+
+    private final FlashcardExchangeFormat format;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    public FlashcardExchangeWriter(FlashcardExchangeFormat format, Writer writer, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeHeader() throws IOException {
+        if (format != FlashcardExchangeFormat.NDJSON) {
+            writeRecord(COLUMNS);
+        }
+    }
+
+    public void write(CreateFlashcardRequest flashcard) throws IOException {
+        if (format == FlashcardExchangeFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(flashcard));
+            writer.write('\n');
+            return;
+        }
+
+        writeRecord(List.of(
+                nullToEmpty(flashcard.word()),
+                nullToEmpty(flashcard.description()),
+                nullToEmpty(flashcard.translation()),
+                flashcard.difficultyLevel() == null ? "" : flashcard.difficultyLevel().name(),
+                joinExamples(flashcard.useExamples())
+        ));
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRecord(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(format.getDelimiter());
+            }
+            writer.write(format == FlashcardExchangeFormat.CSV ? quoteCsv(fields.get(i)) : escapeTsv(fields.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    private static String quoteCsv(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    private static String escapeTsv(String field) {
+        StringBuilder escaped = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String joinExamples(List<String> useExamples) {
+        if (useExamples == null || useExamples.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder joined = new StringBuilder();
+        for (String example : useExamples) {
+            if (!joined.isEmpty()) {
+                joined.append(EXAMPLE_SEPARATOR);
+            }
+            joined.append(example.replace("\\", "\\\\").replace("|", "\\|"));
+        }
+        return joined.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
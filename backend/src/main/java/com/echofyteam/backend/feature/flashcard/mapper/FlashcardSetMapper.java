@@ -1,19 +1,19 @@
 package com.echofyteam.backend.feature.flashcard.mapper;
 
 import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardSetResponse;
-import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetSummary;
 import org.springframework.stereotype.Component;
 
 @Component
 public class FlashcardSetMapper {
-    public FlashcardSetResponse toFlashcardSetResponse(FlashcardSetEntity flashcardSetEntity) {
+    public FlashcardSetResponse toFlashcardSetResponse(FlashcardSetSummary flashcardSetSummary) {
         return FlashcardSetResponse.builder()
-                .id(flashcardSetEntity.getId())
-                .title(flashcardSetEntity.getTitle())
-                .previewUrl(flashcardSetEntity.getPreviewUrl())
-                .cardCount(flashcardSetEntity.getFlashcards().size())
-                .authorName(flashcardSetEntity.getAuthor().getUsername())
-                .publicFlag(flashcardSetEntity.isPublicFlag())
+                .id(flashcardSetSummary.id())
+                .title(flashcardSetSummary.title())
+                .previewUrl(flashcardSetSummary.previewUrl())
+                .cardCount(Math.toIntExact(flashcardSetSummary.cardCount()))
+                .authorName(flashcardSetSummary.authorName())
+                .publicFlag(flashcardSetSummary.publicFlag())
                 .build();
     }
 }
@@ -1,7 +1,8 @@
 package com.echofyteam.backend.feature.flashcard.mapper;
 
 import com.echofyteam.backend.feature.flashcard.dto.response.UserFlashcardProgressResponse;
-import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.repository.projection.UserFlashcardProgressRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -10,12 +11,15 @@ import org.springframework.stereotype.Component;
 public class UserFlashcardProgressMapper {
     private final FlashcardMapper flashcardMapper;
 
-    public UserFlashcardProgressResponse toUserFlashcardProgressResponse(UserFlashcardProgressEntity userFlashcardProgressEntity) {
+    public UserFlashcardProgressResponse toUserFlashcardProgressResponse(FlashcardEntity flashcardEntity, UserFlashcardProgressRow userFlashcardProgressRow) {
         return UserFlashcardProgressResponse.builder()
-                .flashcardResponse(flashcardMapper.toFlashcardResponse(userFlashcardProgressEntity.getFlashcard()))
-                .learningLevel(userFlashcardProgressEntity.getLearningLevel())
-                .repetitionCount(userFlashcardProgressEntity.getRepetitionCount())
-                .lastReviewedAt(userFlashcardProgressEntity.getLastReviewedAt())
+                .flashcardResponse(flashcardMapper.toFlashcardResponse(flashcardEntity))
+                .learningLevel(userFlashcardProgressRow.learningLevel())
+                .repetitionCount(userFlashcardProgressRow.repetitionCount())
+                .lastReviewedAt(userFlashcardProgressRow.lastReviewedAt())
+                .easeFactor(userFlashcardProgressRow.easeFactor())
+                .intervalDays(userFlashcardProgressRow.intervalDays())
+                .dueAt(userFlashcardProgressRow.dueAt())
                 .build();
     }
 }
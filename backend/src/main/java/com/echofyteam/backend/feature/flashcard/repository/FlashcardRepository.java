@@ -1,28 +1,121 @@
 package com.echofyteam.backend.feature.flashcard.repository;
 
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardDifficultyLevel;
 import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.repository.projection.AuthorizedFlashcard;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardExportRow;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSearchRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface FlashcardRepository extends JpaRepository<FlashcardEntity, UUID> {
     Optional<FlashcardEntity> findByIdAndSetId(UUID flashcardID, UUID setId);
 
-    Page<FlashcardEntity> findAllBySetId(UUID setId, Pageable pageable);
+    /**
+     * Loads the flashcard with its set's visibility and author in a single query, for access checks.
+     */
+    @Query("""
+            SELECT new com.echofyteam.backend.feature.flashcard.repository.projection.AuthorizedFlashcard(
+                f, s.publicFlag, s.author.id)
+            FROM FlashcardEntity f
+            JOIN f.set s
+            WHERE f.id = :id AND s.id = :setId
+            """)
+    Optional<AuthorizedFlashcard> findAuthorizedByIdAndSetId(@Param("id") UUID flashcardID, @Param("setId") UUID setId);
 
-    @Query(value = "SELECT * FROM flashcards WHERE set_id = :setId ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
-    Optional<FlashcardEntity> findRandomBySetId(@Param("setId") UUID flashcardSetID);
+    @Query(value = "SELECT f.id FROM FlashcardEntity f WHERE f.set.id = :setId",
+            countQuery = "SELECT COUNT(f) FROM FlashcardEntity f WHERE f.set.id = :setId")
+    Page<UUID> findPageOfIdsBySetId(@Param("setId") UUID setId, Pageable pageable);
+
+    List<FlashcardEntity> findAllByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT f.id FROM FlashcardEntity f WHERE f.set.id = :setId")
+    List<UUID> findIdsBySetId(@Param("setId") UUID setId);
+
+    @Query("SELECT f.id FROM FlashcardEntity f WHERE f.set.id = :setId AND f.id IN :ids")
+    List<UUID> findIdsBySetIdAndIdIn(@Param("setId") UUID setId, @Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            SELECT f FROM FlashcardEntity f
+            WHERE f.set.id = :setId
+              AND NOT EXISTS (
+                  SELECT 1 FROM UserFlashcardProgressEntity p
+                  WHERE p.flashcard = f AND p.user.id = :userId)
+            ORDER BY f.id
+            """)
+    List<FlashcardEntity> findUnseenBySetId(
+            @Param("userId") UUID userID,
+            @Param("setId") UUID setId,
+            Pageable pageable);
+
+    @Query("""
+            SELECT new com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardExportRow(
+                f.id, f.word, f.description, f.translation, f.difficultyLevel, f.useExamples)
+            FROM FlashcardEntity f
+            WHERE f.set.id = :setId
+            ORDER BY f.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<FlashcardExportRow> streamExportRowsBySetId(@Param("setId") UUID setId);
+
+    @Query("""
+            SELECT new com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSearchRow(
+                f.id, f.set.id, f.word, f.translation, f.description)
+            FROM FlashcardEntity f
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<FlashcardSearchRow> streamSearchRows();
 
     boolean existsByWordAndSetId(String word, UUID setId);
 
-    @Query("SELECT f.word FROM FlashcardEntity f WHERE f.set.id = :setId")
-    List<String> findWordsBySetId(@Param("setId") UUID setId);
+    @Query("SELECT f.word FROM FlashcardEntity f WHERE f.set.id = :setId AND f.word IN :words")
+    Set<String> findExistingWords(@Param("setId") UUID setId, @Param("words") Collection<String> words);
+
+    // Ownership-checked writes: the statement only matches when the set is authored by the given user, so no
+    // set has to be loaded up front. Null arguments keep the current value.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlashcardEntity f SET
+                f.word = COALESCE(:word, f.word),
+                f.description = COALESCE(:description, f.description),
+                f.translation = COALESCE(:translation, f.translation),
+                f.difficultyLevel = COALESCE(:difficultyLevel, f.difficultyLevel),
+                f.useExamples = COALESCE(:useExamples, f.useExamples)
+            WHERE f.id = :id
+              AND f.set.id IN (SELECT s.id FROM FlashcardSetEntity s WHERE s.id = :setId AND s.author.id = :authorId)
+            """)
+    int updateByIdAndSetIdAndAuthorId(
+            @Param("id") UUID flashcardID,
+            @Param("setId") UUID setId,
+            @Param("authorId") UUID authorID,
+            @Param("word") String word,
+            @Param("description") String description,
+            @Param("translation") String translation,
+            @Param("difficultyLevel") FlashcardDifficultyLevel difficultyLevel,
+            @Param("useExamples") List<String> useExamples);
 
-    void deleteByIdAndSetId(UUID id, UUID setId);
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            DELETE FROM FlashcardEntity f
+            WHERE f.id = :id
+              AND f.set.id IN (SELECT s.id FROM FlashcardSetEntity s WHERE s.id = :setId AND s.author.id = :authorId)
+            """)
+    int deleteByIdAndSetIdAndAuthorId(
+            @Param("id") UUID flashcardID,
+            @Param("setId") UUID setId,
+            @Param("authorId") UUID authorID);
 }
@@ -1,13 +1,102 @@
 package com.echofyteam.backend.feature.flashcard.repository;
 
 import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetSearchRow;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetSummary;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetVersion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface FlashcardSetRepository extends JpaRepository<FlashcardSetEntity, UUID> {
-    Page<FlashcardSetEntity> findAllByPublicFlagTrue(Pageable pageable);
-    Page<FlashcardSetEntity> findAllByAuthorId(UUID authorId, Pageable pageable);
+    String SUMMARY_SELECT = """
+            SELECT new com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetSummary(
+                s.id, s.title, s.previewUrl, s.publicFlag, a.id, a.username,
+                s.cardCount, s.createdAt)
+            FROM FlashcardSetEntity s
+            LEFT JOIN s.author a
+            """;
+
+    // Public listings, the summary and the version lookup are hot and read-mostly, so their results are kept
+    // in the query cache. Any write to the tables they read invalidates them.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = SUMMARY_SELECT + "WHERE s.publicFlag = true",
+            countQuery = "SELECT COUNT(s) FROM FlashcardSetEntity s WHERE s.publicFlag = true")
+    Page<FlashcardSetSummary> findAllPublicSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.id = :authorId",
+            countQuery = "SELECT COUNT(s) FROM FlashcardSetEntity s WHERE s.author.id = :authorId")
+    Page<FlashcardSetSummary> findAllSummariesByAuthorId(@Param("authorId") UUID authorId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SUMMARY_SELECT + "WHERE s.publicFlag = true ORDER BY s.createdAt DESC, s.id DESC")
+    List<FlashcardSetSummary> findPublicSummariesFirst(Limit limit);
+
+    @Query(SUMMARY_SELECT + """
+            WHERE s.publicFlag = true AND (s.createdAt, s.id) < (:createdAt, :id)
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<FlashcardSetSummary> findPublicSummariesAfter(
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.id = :authorId ORDER BY s.createdAt DESC, s.id DESC")
+    List<FlashcardSetSummary> findSummariesByAuthorIdFirst(@Param("authorId") UUID authorId, Limit limit);
+
+    @Query(SUMMARY_SELECT + """
+            WHERE a.id = :authorId AND (s.createdAt, s.id) < (:createdAt, :id)
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<FlashcardSetSummary> findSummariesByAuthorIdAfter(
+            @Param("authorId") UUID authorId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    long countByPublicFlagTrue();
+
+    long countByAuthorId(UUID authorId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            SELECT new com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetVersion(
+                s.id, s.contentVersion, s.updatedAt, s.publicFlag, s.author.id)
+            FROM FlashcardSetEntity s
+            WHERE s.id = :id
+            """)
+    Optional<FlashcardSetVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Loads the set with a row lock, bypassing the second-level cache. Card writes go through this so that
+     * concurrent writers update the card count and content version one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FlashcardSetEntity s WHERE s.id = :id")
+    Optional<FlashcardSetEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SUMMARY_SELECT + "WHERE s.id = :id")
+    Optional<FlashcardSetSummary> findSummaryById(@Param("id") UUID id);
+
+    @Query("""
+            SELECT new com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetSearchRow(
+                s.id, s.title, s.publicFlag, s.author.id)
+            FROM FlashcardSetEntity s
+            """)
+    Stream<FlashcardSetSearchRow> streamSearchRows();
 }
@@ -1,11 +1,46 @@
 package com.echofyteam.backend.feature.flashcard.repository;
 
 import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
-public interface UserFlashcardProgressRepository extends JpaRepository<UserFlashcardProgressEntity, UUID> {
-    Optional<UserFlashcardProgressEntity> findByUserIdAndFlashcardId(UUID userID, UUID flashcardID);
+public interface UserFlashcardProgressRepository
+        extends JpaRepository<UserFlashcardProgressEntity, UUID>, UserFlashcardProgressRepositoryCustom {
+    /**
+     * Loads and locks the user's progress on the flashcards, so concurrent reviews of the same flashcards wait
+     * until the caller commits. Rows are locked in id order to avoid deadlocks between overlapping batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT p FROM UserFlashcardProgressEntity p
+            WHERE p.user.id = :userId
+              AND p.flashcard.id IN :flashcardIds
+            ORDER BY p.id
+            """)
+    List<UserFlashcardProgressEntity> findAllForUpdateByUserIdAndFlashcardIdIn(
+            @Param("userId") UUID userID,
+            @Param("flashcardIds") Collection<UUID> flashcardIDs);
+
+    @Query("""
+            SELECT p FROM UserFlashcardProgressEntity p
+            JOIN FETCH p.flashcard f
+            WHERE p.user.id = :userId
+              AND f.set.id = :setId
+              AND (p.dueAt IS NULL OR p.dueAt <= :now)
+            ORDER BY p.dueAt ASC NULLS FIRST
+            """)
+    List<UserFlashcardProgressEntity> findDueByUserIdAndSetId(
+            @Param("userId") UUID userID,
+            @Param("setId") UUID setId,
+            @Param("now") Instant now,
+            Pageable pageable);
 }
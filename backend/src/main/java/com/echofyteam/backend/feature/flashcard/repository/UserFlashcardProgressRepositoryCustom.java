@@ -0,0 +1,30 @@
+package com.echofyteam.backend.feature.flashcard.repository;
+
+import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
+import com.echofyteam.backend.feature.flashcard.repository.projection.UserFlashcardProgressRow;
+
+import java.util.UUID;
+
+public interface UserFlashcardProgressRepositoryCustom {
+    /**
+     * Records a review of the flashcard by the user in a single atomic statement.
+     * <p>
+     * If the user has no progress on the flashcard yet, the values of {@code firstReview} are inserted.
+     * Otherwise the existing row is advanced by one SM-2 step in place: the repetition count is incremented,
+     * the ease factor moves by {@code easeFactorDelta} and the interval and due date are derived from the
+     * stored streak, interval and ease factor. Concurrent reviews of the same flashcard therefore never create
+     * duplicate rows nor lose repetitions, without reading or locking the row first.
+     * </p>
+     *
+     * @param userID          the unique identifier of the user
+     * @param flashcardID     the unique identifier of the flashcard
+     * @param firstReview     the progress after a first review, used when no progress exists yet
+     * @param easeFactorDelta the change of the ease factor caused by the review
+     * @return the progress after the review
+     */
+    UserFlashcardProgressRow upsertReview(
+            UUID userID,
+            UUID flashcardID,
+            UserFlashcardProgressEntity firstReview,
+            double easeFactorDelta);
+}
@@ -0,0 +1,160 @@
+package com.echofyteam.backend.feature.flashcard.repository;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardLearningLevel;
+import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
+import com.echofyteam.backend.feature.flashcard.repository.projection.UserFlashcardProgressRow;
+import com.echofyteam.backend.feature.flashcard.service.impl.SpacedRepetitionScheduler;
+import com.echofyteam.backend.persistence.UuidV7;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Native progress upsert.
+ * <p>
+ * PostgreSQL uses {@code INSERT ... ON CONFLICT DO UPDATE ... RETURNING}, which is atomic against the
+ * {@code (user_id, flashcard_id)} unique constraint. H2 has no {@code ON CONFLICT}, so it uses {@code MERGE} read
+ * through a {@code FINAL TABLE}; two concurrent first reviews can both take the insert branch there, and the
+ * loser is retried once, when it takes the update branch.
+ * </p>
+ * <p>
+ * The update branch mirrors {@link SpacedRepetitionScheduler#review}; both must be changed together.
+ * </p>
+ */
+@Slf4j
+public class UserFlashcardProgressRepositoryCustomImpl implements UserFlashcardProgressRepositoryCustom {
+    private static final String INTERVAL_DAYS = """
+            CASE
+                WHEN CAST(:unsure AS BOOLEAN) OR p.streak = 0 THEN 1
+                WHEN p.streak = 1 THEN 6
+                ELSE CAST(FLOOR(p.interval_days * p.ease_factor + 0.5) AS INTEGER)
+            END""";
+
+    private static final String UPDATE_ASSIGNMENTS = """
+            learning_level = :learningLevel,
+            repetition_count = p.repetition_count + 1,
+            last_reviewed_at = CAST(:reviewedAt AS TIMESTAMP WITH TIME ZONE),
+            ease_factor = GREATEST(:minEaseFactor, p.ease_factor + :easeFactorDelta),
+            interval_days = %1$s,
+            streak = CASE WHEN CAST(:unsure AS BOOLEAN) THEN 0 ELSE p.streak + 1 END,
+            due_at = %2$s""";
+
+    private static final String COLUMNS =
+            "id, user_id, flashcard_id, learning_level, repetition_count, last_reviewed_at, ease_factor, interval_days, streak, due_at";
+
+    private static final String VALUES = """
+            :id, :userId, :flashcardId, :learningLevel, :repetitionCount,
+            CAST(:reviewedAt AS TIMESTAMP WITH TIME ZONE), :easeFactor, :intervalDays, :streak,
+            CAST(:dueAt AS TIMESTAMP WITH TIME ZONE)""";
+
+    private static final String RETURNED_COLUMNS =
+            "learning_level, repetition_count, last_reviewed_at, ease_factor, interval_days, due_at";
+
+    private static final String POSTGRESQL_UPSERT = """
+            INSERT INTO user_flashcard_progresses AS p (%1$s)
+            VALUES (%2$s)
+            ON CONFLICT (user_id, flashcard_id) DO UPDATE SET
+            %3$s
+            RETURNING %4$s
+            """.formatted(
+            COLUMNS,
+            VALUES,
+            UPDATE_ASSIGNMENTS.formatted(
+                    INTERVAL_DAYS,
+                    "CAST(:reviewedAt AS TIMESTAMP WITH TIME ZONE) + (" + INTERVAL_DAYS + ") * INTERVAL '1 day'"),
+            RETURNED_COLUMNS);
+
+    private static final String H2_UPSERT = """
+            SELECT %4$s FROM FINAL TABLE (
+                MERGE INTO user_flashcard_progresses p
+                USING (SELECT CAST(:userId AS UUID) AS user_id, CAST(:flashcardId AS UUID) AS flashcard_id) r
+                ON p.user_id = r.user_id AND p.flashcard_id = r.flashcard_id
+                WHEN MATCHED THEN UPDATE SET
+                %3$s
+                WHEN NOT MATCHED THEN INSERT (%1$s) VALUES (%2$s)
+            )
+            """.formatted(
+            COLUMNS,
+            VALUES,
+            UPDATE_ASSIGNMENTS.formatted(
+                    INTERVAL_DAYS,
+                    "DATEADD(DAY, " + INTERVAL_DAYS + ", CAST(:reviewedAt AS TIMESTAMP WITH TIME ZONE))"),
+            RETURNED_COLUMNS);
+
+    private static final RowMapper<UserFlashcardProgressRow> ROW_MAPPER = (rs, rowNum) -> new UserFlashcardProgressRow(
+            FlashcardLearningLevel.valueOf(rs.getString("learning_level")),
+            rs.getInt("repetition_count"),
+            toInstant(rs.getObject("last_reviewed_at", OffsetDateTime.class)),
+            rs.getDouble("ease_factor"),
+            rs.getInt("interval_days"),
+            toInstant(rs.getObject("due_at", OffsetDateTime.class)));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean postgreSQL;
+
+    public UserFlashcardProgressRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgreSQL = isPostgreSQL(dataSource);
+    }
+
+    @Override
+    public UserFlashcardProgressRow upsertReview(
+            UUID userID,
+            UUID flashcardID,
+            UserFlashcardProgressEntity firstReview,
+            double easeFactorDelta) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", UuidV7.generate())
+                .addValue("userId", userID)
+                .addValue("flashcardId", flashcardID)
+                .addValue("learningLevel", firstReview.getLearningLevel().name())
+                .addValue("repetitionCount", firstReview.getRepetitionCount())
+                .addValue("reviewedAt", toOffsetDateTime(firstReview.getLastReviewedAt()))
+                .addValue("easeFactor", firstReview.getEaseFactor())
+                .addValue("intervalDays", firstReview.getIntervalDays())
+                .addValue("streak", firstReview.getStreak())
+                .addValue("dueAt", toOffsetDateTime(firstReview.getDueAt()))
+                .addValue("unsure", firstReview.getLearningLevel() == FlashcardLearningLevel.UNSURE)
+                .addValue("easeFactorDelta", easeFactorDelta)
+                .addValue("minEaseFactor", SpacedRepetitionScheduler.MIN_EASE_FACTOR);
+
+        if (postgreSQL) {
+            return jdbcTemplate.queryForObject(POSTGRESQL_UPSERT, parameters, ROW_MAPPER);
+        }
+
+        try {
+            return jdbcTemplate.queryForObject(H2_UPSERT, parameters, ROW_MAPPER);
+        } catch (DuplicateKeyException e) {
+            log.debug("Concurrent first review of flashcard with id: {} by user with id: {} - retrying", flashcardID, userID);
+            return jdbcTemplate.queryForObject(H2_UPSERT, parameters, ROW_MAPPER);
+        }
+    }
+
+    private static boolean isPostgreSQL(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Unable to determine the database product", e);
+        }
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant == null ? null : OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(OffsetDateTime offsetDateTime) {
+        return offsetDateTime == null ? null : offsetDateTime.toInstant();
+    }
+}
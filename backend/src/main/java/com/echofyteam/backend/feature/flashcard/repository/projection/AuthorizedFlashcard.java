@@ -0,0 +1,18 @@
+package com.echofyteam.backend.feature.flashcard.repository.projection;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+
+import java.util.UUID;
+
+/**
+ * A flashcard together with the visibility and author of its set, enough to check access without loading the set.
+ *
+ * @param flashcard  the flashcard
+ * @param publicFlag the publicity of the flashcard's set
+ * @param authorID   the unique identifier of the set's author
+ */
+public record AuthorizedFlashcard(
+        FlashcardEntity flashcard,
+        boolean publicFlag,
+        UUID authorID
+) {}
@@ -0,0 +1,25 @@
+package com.echofyteam.backend.feature.flashcard.repository.projection;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardDifficultyLevel;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One flashcard with its use examples, as read by the export cursor.
+ *
+ * @param id              the unique identifier of the flashcard
+ * @param word            the word of the flashcard
+ * @param description     the description of the flashcard
+ * @param translation     the translation of the flashcard
+ * @param difficultyLevel the difficulty level of the flashcard
+ * @param useExamples     the use examples of the flashcard
+ */
+public record FlashcardExportRow(
+        UUID id,
+        String word,
+        String description,
+        String translation,
+        FlashcardDifficultyLevel difficultyLevel,
+        List<String> useExamples
+) {}
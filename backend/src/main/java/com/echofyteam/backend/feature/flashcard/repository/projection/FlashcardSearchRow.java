@@ -0,0 +1,20 @@
+package com.echofyteam.backend.feature.flashcard.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Searchable fields of a flashcard, as read when rebuilding the search index.
+ *
+ * @param id          the unique identifier of the flashcard
+ * @param setID       the unique identifier of the flashcard's set
+ * @param word        the word of the flashcard
+ * @param translation the translation of the flashcard
+ * @param description the description of the flashcard
+ */
+public record FlashcardSearchRow(
+        UUID id,
+        UUID setID,
+        String word,
+        String translation,
+        String description
+) {}
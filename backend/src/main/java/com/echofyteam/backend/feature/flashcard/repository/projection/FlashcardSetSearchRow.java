@@ -0,0 +1,18 @@
+package com.echofyteam.backend.feature.flashcard.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Searchable fields and visibility of a flashcard set, as read when rebuilding the search index.
+ *
+ * @param id         the unique identifier of the flashcard set
+ * @param title      the title of the flashcard set
+ * @param publicFlag the publicity of the flashcard set
+ * @param authorID   the unique identifier of the author
+ */
+public record FlashcardSetSearchRow(
+        UUID id,
+        String title,
+        boolean publicFlag,
+        UUID authorID
+) {}
@@ -0,0 +1,28 @@
+package com.echofyteam.backend.feature.flashcard.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model of a flashcard set for listings, loaded together with its author name and card count
+ * in a single query, without touching the set's flashcards or the author entity.
+ *
+ * @param id         the unique identifier of the flashcard set
+ * @param title      the title of the flashcard set
+ * @param previewUrl the URL of the preview image
+ * @param publicFlag the publicity of the flashcard set
+ * @param authorID   the unique identifier of the author
+ * @param authorName the username of the author
+ * @param cardCount  the number of flashcards in the set
+ * @param createdAt  the creation timestamp of the set, used as the listing cursor
+ */
+public record FlashcardSetSummary(
+        UUID id,
+        String title,
+        String previewUrl,
+        boolean publicFlag,
+        UUID authorID,
+        String authorName,
+        long cardCount,
+        Instant createdAt
+) {}
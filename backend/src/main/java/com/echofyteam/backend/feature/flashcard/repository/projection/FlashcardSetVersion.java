@@ -0,0 +1,21 @@
+package com.echofyteam.backend.feature.flashcard.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Version and visibility of a flashcard set, enough to answer conditional requests without loading the set's content.
+ *
+ * @param id             the unique identifier of the flashcard set
+ * @param contentVersion the version of the set, bumped whenever the set or any of its flashcards changes
+ * @param updatedAt      the timestamp of the last change of the set or its flashcards
+ * @param publicFlag     the publicity of the flashcard set
+ * @param authorID       the unique identifier of the author
+ */
+public record FlashcardSetVersion(
+        UUID id,
+        long contentVersion,
+        Instant updatedAt,
+        boolean publicFlag,
+        UUID authorID
+) {}
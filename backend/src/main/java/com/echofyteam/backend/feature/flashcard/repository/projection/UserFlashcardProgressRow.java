@@ -0,0 +1,24 @@
+package com.echofyteam.backend.feature.flashcard.repository.projection;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardLearningLevel;
+
+import java.time.Instant;
+
+/**
+ * A user's progress on a flashcard, as returned by the progress upsert.
+ *
+ * @param learningLevel   the current learning level of the flashcard for the user
+ * @param repetitionCount the number of times the flashcard has been reviewed
+ * @param lastReviewedAt  the moment of the most recent review
+ * @param easeFactor      the SM-2 ease factor
+ * @param intervalDays    the current review interval in days
+ * @param dueAt           the moment the flashcard is due for the next review
+ */
+public record UserFlashcardProgressRow(
+        FlashcardLearningLevel learningLevel,
+        int repetitionCount,
+        Instant lastReviewedAt,
+        double easeFactor,
+        int intervalDays,
+        Instant dueAt
+) {}
@@ -1,8 +1,11 @@
 package com.echofyteam.backend.feature.flashcard.service;
 
+import com.echofyteam.backend.feature.flashcard.dto.request.BatchFlashcardProgressRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardProgressRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.dto.response.BatchFlashcardProgressResponse;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportReport;
 import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardResponse;
 import com.echofyteam.backend.feature.flashcard.dto.response.UserFlashcardProgressResponse;
 import org.springframework.data.domain.Page;
@@ -13,11 +16,14 @@ import java.util.UUID;
 
 public interface FlashcardService {
     FlashcardResponse getFlashcardByID(UUID flashcardSetID, UUID flashcardID);
-    FlashcardResponse getRandomFlashcard(UUID flashcardSetID);
+    FlashcardResponse getRandomFlashcard(UUID flashcardSetID, boolean shuffle);
+    List<FlashcardResponse> getDueFlashcards(UUID flashcardSetID, int limit);
     Page<FlashcardResponse> getAllFlashcards(UUID flashcardSetID, Pageable pageable);
     FlashcardResponse createFlashcard(UUID flashcardSetID, CreateFlashcardRequest createFlashcardRequest);
     List<FlashcardResponse> batchFlashcards(UUID flashcardSetID, List<CreateFlashcardRequest> createFlashcardRequests);
+    FlashcardImportReport importFlashcards(UUID flashcardSetID, List<CreateFlashcardRequest> createFlashcardRequests);
     FlashcardResponse updateFlashcard(UUID flashcardSetID, UUID flashcardID, UpdateFlashcardRequest updateFlashcardRequest);
     UserFlashcardProgressResponse updateFlashcardProgress(UUID flashcardSetID, UUID flashcardID, UpdateFlashcardProgressRequest updateFlashcardProgressRequest);
+    BatchFlashcardProgressResponse batchUpdateFlashcardProgress(UUID flashcardSetID, BatchFlashcardProgressRequest batchFlashcardProgressRequest);
     void deleteFlashcard(UUID flashcardSetID, UUID flashcardID);
 }
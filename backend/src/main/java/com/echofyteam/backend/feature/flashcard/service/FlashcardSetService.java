@@ -2,17 +2,28 @@ package com.echofyteam.backend.feature.flashcard.service;
 
 import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardSetRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardSetRequest;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportReport;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardSetCursorPage;
 import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardSetResponse;
+import com.echofyteam.backend.feature.flashcard.exchange.FlashcardExchangeFormat;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 public interface FlashcardSetService {
     Page<FlashcardSetResponse> getAllPublicFlashcardSets(Pageable pageable);
     Page<FlashcardSetResponse> getAllPersonalFlashcardSets(Pageable pageable);
+    FlashcardSetCursorPage getPublicFlashcardSets(String cursor, int size, boolean includeTotal);
+    FlashcardSetCursorPage getPersonalFlashcardSets(String cursor, int size, boolean includeTotal);
     FlashcardSetResponse getFlashcardSetByID(UUID flashcardSetID);
+    FlashcardSetVersion getFlashcardSetVersion(UUID flashcardSetID);
     FlashcardSetResponse createFlashcardSet(CreateFlashcardSetRequest createFlashcardSetRequest);
     FlashcardSetResponse updateFlashcardSet(UUID flashcardSetID, UpdateFlashcardSetRequest updateFlashcardSetRequest);
     void deleteFlashcardSet(UUID flashcardSetID);
+    StreamingResponseBody exportFlashcardSet(UUID flashcardSetID, FlashcardExchangeFormat format);
+    FlashcardImportReport importFlashcardSet(UUID flashcardSetID, FlashcardExchangeFormat format, InputStream inputStream);
 }
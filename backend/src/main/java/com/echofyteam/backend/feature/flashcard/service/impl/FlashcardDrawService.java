@@ -0,0 +1,168 @@
+package com.echofyteam.backend.feature.flashcard.service.impl;
+
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random flashcard selection backed by an in-memory index of flashcard ids per set.
+ * <p>
+ * The index of a set is loaded with a single id-only query and then serves draws in O(1) until the set's
+ * cards change. Changes made on this instance drop the index immediately; changes made on other instances
+ * are picked up once the index entry expires. In addition to plain random draws, a per-user shuffle deck returns every card of a set
+ * exactly once before any card repeats.
+ * </p>
+ */
+@Slf4j
+@Service
+public class FlashcardDrawService {
+    private final LoadingCache<UUID, UUID[]> idIndex;
+    private final Cache<DeckKey, ShuffleDeck> decks;
+
+    public FlashcardDrawService(
+            FlashcardRepository flashcardRepository,
+            @Value("${app.flashcard.random.index-max-ids:5000000}") long indexMaxIds,
+            @Value("${app.flashcard.random.index-ttl:1m}") Duration indexTtl,
+            @Value("${app.flashcard.random.deck-ttl:30m}") Duration deckTtl) {
+        this.idIndex = Caffeine.newBuilder()
+                .maximumWeight(indexMaxIds)
+                .<UUID, UUID[]>weigher((setId, ids) -> Math.max(1, ids.length))
+                .expireAfterWrite(indexTtl)
+                .recordStats()
+                .build(setId -> flashcardRepository.findIdsBySetId(setId).toArray(UUID[]::new));
+        this.decks = Caffeine.newBuilder()
+                .expireAfterAccess(deckTtl)
+                .build();
+    }
+
+    /**
+     * Draws a uniformly random flashcard id from the set.
+     *
+     * @param flashcardSetID the unique identifier of the flashcard set
+     * @return a random flashcard id, or empty if the set has no cards
+     */
+    public Optional<UUID> drawRandom(UUID flashcardSetID) {
+        UUID[] ids = idIndex.get(flashcardSetID);
+        if (ids.length == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    /**
+     * Draws the next flashcard id from the user's shuffle deck for the set. Every card is returned
+     * once per round; a new round is shuffled when the deck runs out.
+     *
+     * @param userID         the unique identifier of the user
+     * @param flashcardSetID the unique identifier of the flashcard set
+     * @return the next flashcard id, or empty if the set has no cards
+     */
+    public Optional<UUID> drawFromDeck(UUID userID, UUID flashcardSetID) {
+        UUID[] ids = idIndex.get(flashcardSetID);
+        if (ids.length == 0) {
+            return Optional.empty();
+        }
+
+        ShuffleDeck deck = decks.get(new DeckKey(userID, flashcardSetID), key -> new ShuffleDeck());
+        return Optional.of(deck.next(ids));
+    }
+
+    /**
+     * Drops the id index of the set, so the next draw reloads it. Called whenever cards are added
+     * to or removed from the set; when a transaction is active, the index is dropped again after commit.
+     *
+     * @param flashcardSetID the unique identifier of the flashcard set
+     */
+    public void invalidate(UUID flashcardSetID) {
+        idIndex.invalidate(flashcardSetID);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    idIndex.invalidate(flashcardSetID);
+                }
+            });
+        }
+    }
+
+    /**
+     * Exposes the underlying id index, e.g. for statistics.
+     *
+     * @return the id index cache
+     */
+    public Cache<UUID, UUID[]> getIdIndex() {
+        return idIndex;
+    }
+
+    private record DeckKey(UUID userID, UUID flashcardSetID) {
+    }
+
+    /**
+     * Per-user, per-set permutation of card ids. When the set's index changes mid-round, the deck is
+     * rebuilt from the cards that have not been drawn yet in the current round.
+     */
+    private static class ShuffleDeck {
+        private final Set<UUID> drawn = new HashSet<>();
+        private UUID[] source;
+        private List<UUID> order = List.of();
+        private int cursor;
+
+        synchronized UUID next(UUID[] ids) {
+            if (ids != source) {
+                source = ids;
+                reshuffle();
+            }
+
+            if (cursor >= order.size()) {
+                drawn.clear();
+                reshuffle();
+            }
+
+            UUID next = order.get(cursor++);
+            drawn.add(next);
+            return next;
+        }
+
+        private void reshuffle() {
+            List<UUID> remaining = new ArrayList<>(source.length);
+            for (UUID id : source) {
+                if (!drawn.contains(id)) {
+                    remaining.add(id);
+                }
+            }
+
+            if (remaining.isEmpty()) {
+                drawn.clear();
+                remaining.addAll(List.of(source));
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = remaining.size() - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                UUID tmp = remaining.get(i);
+                remaining.set(i, remaining.get(j));
+                remaining.set(j, tmp);
+            }
+
+            order = remaining;
+            cursor = 0;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.echofyteam.backend.feature.flashcard.service.impl;
+
+import com.echofyteam.backend.exception.impl.BusinessException;
+import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportChunkReport;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportError;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportReport;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardSetRepository;
+import com.echofyteam.backend.feature.search.index.SearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Chunked flashcard import pipeline.
+ * <p>
+ * Rows are consumed from an iterator one chunk at a time, so the whole import never has to be held in memory
+ * as entities. Every chunk is validated row by row, de-duplicated against the words already seen in the import
+ * and against the database with a single IN query, and inserted in its own short transaction. Inserts of the
+ * flashcards go through Hibernate JDBC batching; the persistence context is flushed and
+ * cleared after every chunk so it does not grow with the import.
+ * </p>
+ * <p>
+ * Callers are responsible for checking access to the set and must not run the import inside a surrounding
+ * transaction, otherwise the chunks are no longer committed independently.
+ * </p>
+ */
+@Slf4j
+@Service
+public class FlashcardImportService {
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardSetRepository flashcardSetRepository;
+    private final FlashcardDrawService flashcardDrawService;
+    private final SearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public FlashcardImportService(
+            FlashcardRepository flashcardRepository,
+            FlashcardSetRepository flashcardSetRepository,
+            FlashcardDrawService flashcardDrawService,
+            SearchIndex searchIndex,
+            EntityManager entityManager,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.flashcard.import.chunk-size:500}") int chunkSize) {
+        this.flashcardRepository = flashcardRepository;
+        this.flashcardSetRepository = flashcardSetRepository;
+        this.flashcardDrawService = flashcardDrawService;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Imports the rows into the set, chunk by chunk.
+     *
+     * @param flashcardSetID the unique identifier of the flashcard set
+     * @param rows           the rows to import, consumed lazily
+     * @return the import report
+     */
+    public FlashcardImportReport importFlashcards(UUID flashcardSetID, Iterator<CreateFlashcardRequest> rows) {
+        return importFlashcards(flashcardSetID, rows, created -> {
+        });
+    }
+
+    /**
+     * Imports the rows into the set, chunk by chunk, handing every committed chunk's new flashcards to the listener.
+     * The listener is called inside the chunk's transaction, before the persistence context is cleared.
+     *
+     * @param flashcardSetID the unique identifier of the flashcard set
+     * @param rows           the rows to import, consumed lazily
+     * @param onChunkCreated receives the flashcards created by each chunk
+     * @return the import report
+     */
+    public FlashcardImportReport importFlashcards(
+            UUID flashcardSetID,
+            Iterator<CreateFlashcardRequest> rows,
+            Consumer<List<FlashcardEntity>> onChunkCreated) {
+        log.info("Importing flashcards into flashcard set with id: {} in chunks of {}", flashcardSetID, chunkSize);
+
+        Set<String> seenWords = new HashSet<>();
+        List<FlashcardImportChunkReport> chunks = new ArrayList<>();
+        List<FlashcardImportError> errors = new ArrayList<>();
+        long rowIndex = 0;
+        long created = 0;
+        long duplicates = 0;
+        long invalid = 0;
+
+        while (rows.hasNext()) {
+            long startedAt = System.nanoTime();
+            int chunkRows = 0;
+            int chunkInvalid = 0;
+            int chunkDuplicates = 0;
+
+            Map<String, CreateFlashcardRequest> candidates = new LinkedHashMap<>();
+            while (rows.hasNext() && chunkRows < chunkSize) {
+                CreateFlashcardRequest row = rows.next();
+                long currentRow = rowIndex++;
+                chunkRows++;
+
+                String violation = validate(row);
+                if (violation != null) {
+                    chunkInvalid++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new FlashcardImportError(currentRow, violation));
+                    }
+                    continue;
+                }
+
+                if (!seenWords.add(row.word())) {
+                    chunkDuplicates++;
+                    continue;
+                }
+
+                candidates.put(row.word(), row);
+            }
+
+            int chunkCreated = 0;
+            if (!candidates.isEmpty()) {
+                List<FlashcardEntity> saved = transactionTemplate.execute(status -> insertChunk(flashcardSetID, candidates, onChunkCreated));
+                chunkCreated = saved == null ? 0 : saved.size();
+                chunkDuplicates += candidates.size() - chunkCreated;
+                flashcardDrawService.invalidate(flashcardSetID);
+            }
+
+            FlashcardImportChunkReport chunkReport = FlashcardImportChunkReport.builder()
+                    .chunk(chunks.size())
+                    .rows(chunkRows)
+                    .created(chunkCreated)
+                    .duplicates(chunkDuplicates)
+                    .invalid(chunkInvalid)
+                    .durationMillis((System.nanoTime() - startedAt) / 1_000_000)
+                    .build();
+            chunks.add(chunkReport);
+
+            created += chunkCreated;
+            duplicates += chunkDuplicates;
+            invalid += chunkInvalid;
+
+            log.info("Imported chunk {} into flashcard set with id: {} - rows: {}, created: {}, duplicates: {}, invalid: {}, took {} ms",
+                    chunkReport.chunk(), flashcardSetID, chunkRows, chunkCreated, chunkDuplicates, chunkInvalid, chunkReport.durationMillis());
+        }
+
+        log.info("Import into flashcard set with id: {} completed - rows: {}, created: {}, duplicates: {}, invalid: {}",
+                flashcardSetID, rowIndex, created, duplicates, invalid);
+
+        return FlashcardImportReport.builder()
+                .rows(rowIndex)
+                .created(created)
+                .duplicates(duplicates)
+                .invalid(invalid)
+                .chunks(chunks)
+                .errors(errors)
+                .build();
+    }
+
+    private List<FlashcardEntity> insertChunk(
+            UUID flashcardSetID,
+            Map<String, CreateFlashcardRequest> candidates,
+            Consumer<List<FlashcardEntity>> onChunkCreated) {
+        // Lock the set before the duplicate check, so a concurrent insert of the same word cannot slip in between
+        FlashcardSetEntity flashcardSet = flashcardSetRepository.findByIdForUpdate(flashcardSetID)
+                .orElseThrow(() -> {
+                    log.warn("Flashcard set with id: {} not found", flashcardSetID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
+                });
+        Set<String> existingWords = flashcardRepository.findExistingWords(flashcardSetID, candidates.keySet());
+
+        List<FlashcardEntity> flashcardEntities = candidates.values().stream()
+                .filter(row -> !existingWords.contains(row.word()))
+                .map(row -> FlashcardEntity.builder()
+                        .set(flashcardSet)
+                        .word(row.word())
+                        .description(row.description())
+                        .translation(row.translation())
+                        .difficultyLevel(row.difficultyLevel())
+                        .useExamples(normalizeExamples(row.useExamples()))
+                        .build())
+                .toList();
+
+        List<FlashcardEntity> saved = flashcardRepository.saveAll(flashcardEntities);
+        if (!saved.isEmpty()) {
+            flashcardSet.setCardCount(flashcardSet.getCardCount() + saved.size());
+            flashcardSet.setContentVersion(flashcardSet.getContentVersion() + 1);
+        }
+        entityManager.flush();
+        searchIndex.indexFlashcards(saved);
+        onChunkCreated.accept(saved);
+        entityManager.clear();
+
+        return saved;
+    }
+
+    private String validate(CreateFlashcardRequest row) {
+        if (row == null) {
+            return "Row must not be empty";
+        }
+
+        Set<ConstraintViolation<CreateFlashcardRequest>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static List<String> normalizeExamples(List<String> useExamples) {
+        if (useExamples == null) {
+            return new ArrayList<>();
+        }
+
+        return useExamples.stream()
+                .filter(example -> example != null && !example.isBlank())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -2,13 +2,16 @@ package com.echofyteam.backend.feature.flashcard.service.impl;
 
 import com.echofyteam.backend.exception.impl.BusinessException;
 import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import com.echofyteam.backend.feature.flashcard.dto.request.BatchFlashcardProgressRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.dto.request.FlashcardReviewEvent;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardProgressRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.dto.response.BatchFlashcardProgressResponse;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportReport;
 import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardResponse;
 import com.echofyteam.backend.feature.flashcard.dto.response.UserFlashcardProgressResponse;
 import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
-import com.echofyteam.backend.feature.flashcard.entity.FlashcardLearningLevel;
 import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
 import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
 import com.echofyteam.backend.feature.flashcard.mapper.FlashcardMapper;
@@ -16,16 +19,24 @@ import com.echofyteam.backend.feature.flashcard.mapper.UserFlashcardProgressMapp
 import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
 import com.echofyteam.backend.feature.flashcard.repository.FlashcardSetRepository;
 import com.echofyteam.backend.feature.flashcard.repository.UserFlashcardProgressRepository;
+import com.echofyteam.backend.feature.flashcard.repository.projection.AuthorizedFlashcard;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetVersion;
+import com.echofyteam.backend.feature.flashcard.repository.projection.UserFlashcardProgressRow;
 import com.echofyteam.backend.feature.flashcard.service.FlashcardService;
-import com.echofyteam.backend.feature.user.entity.UserEntity;
+import com.echofyteam.backend.feature.search.index.SearchIndex;
 import com.echofyteam.backend.feature.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -34,95 +45,150 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class FlashcardServiceImpl implements FlashcardService {
+    private static final int MAX_DUE_FLASHCARDS = 100;
+    private static final Duration MAX_CLIENT_CLOCK_SKEW = Duration.ofMinutes(5);
+
     private final FlashcardRepository flashcardRepository;
     private final FlashcardSetRepository flashcardSetRepository;
     private final UserFlashcardProgressRepository userFlashcardProgressRepository;
     private final FlashcardMapper flashcardMapper;
     private final UserFlashcardProgressMapper userFlashcardProgressMapper;
     private final UserService userService;
+    private final FlashcardDrawService flashcardDrawService;
+    private final FlashcardImportService flashcardImportService;
+    private final SearchIndex searchIndex;
+    private final SpacedRepetitionScheduler spacedRepetitionScheduler;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
     public FlashcardResponse getFlashcardByID(UUID flashcardSetID, UUID flashcardID) {
         log.info("Getting flashcard with id: {} and set id: {}", flashcardID, flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardEntity flashcard = flashcardRepository.findByIdAndSetId(flashcardID, flashcardSetID)
+        AuthorizedFlashcard authorizedFlashcard = flashcardRepository.findAuthorizedByIdAndSetId(flashcardID, flashcardSetID)
                 .orElseThrow(() -> {
                     log.warn("Flashcard with id: {} not found", flashcardID);
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_NOT_FOUND);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcard.getSet();
-
-        if (!flashcardSet.isPublicFlag() && !flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!authorizedFlashcard.publicFlag() && !Objects.equals(authorizedFlashcard.authorID(), currentUserID)) {
             log.warn("User not authenticated - forbidden to create flashcard set");
             throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
 
+        FlashcardEntity flashcard = authorizedFlashcard.flashcard();
         log.info("Flashcard with id: {} and word: {} retrieved successfully", flashcardID, flashcard.getWord());
         return flashcardMapper.toFlashcardResponse(flashcard);
     }
 
     @Override
     @Transactional
-    public FlashcardResponse getRandomFlashcard(UUID flashcardSetID) {
-        log.info("Getting random flashcard from set with id: {}", flashcardSetID);
+    public FlashcardResponse getRandomFlashcard(UUID flashcardSetID, boolean shuffle) {
+        log.info("Getting random flashcard from set with id: {}, shuffle: {}", flashcardSetID, shuffle);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardEntity flashcard = flashcardRepository.findRandomBySetId(flashcardSetID)
+        UUID drawnFlashcardID = drawFlashcardID(currentUserID, flashcardSetID, shuffle)
                 .orElseThrow(() -> {
                     log.warn("Flashcard set with id: {} not found or empty", flashcardSetID);
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_NOT_FOUND);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcard.getSet();
+        AuthorizedFlashcard authorizedFlashcard = flashcardRepository
+                .findAuthorizedByIdAndSetId(drawnFlashcardID, flashcardSetID)
+                .or(() -> {
+                    log.info("Drawn flashcard with id: {} is gone, reloading id index of set with id: {}",
+                            drawnFlashcardID, flashcardSetID);
+                    flashcardDrawService.invalidate(flashcardSetID);
+                    return drawFlashcardID(currentUserID, flashcardSetID, shuffle)
+                            .flatMap(id -> flashcardRepository.findAuthorizedByIdAndSetId(id, flashcardSetID));
+                })
+                .orElseThrow(() -> {
+                    log.warn("Flashcard set with id: {} not found or empty", flashcardSetID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_NOT_FOUND);
+                });
 
-        if (!flashcardSet.isPublicFlag() && !flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!authorizedFlashcard.publicFlag() && !Objects.equals(authorizedFlashcard.authorID(), currentUserID)) {
             log.warn("User not authenticated - forbidden to create flashcard set");
             throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
 
+        FlashcardEntity flashcard = authorizedFlashcard.flashcard();
         log.info("Random flashcard with id: {} and word: {} retrieved successfully", flashcard.getId(), flashcard.getWord());
         return flashcardMapper.toFlashcardResponse(flashcard);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<FlashcardResponse> getDueFlashcards(UUID flashcardSetID, int limit) {
+        log.info("Getting up to {} due flashcards from set with id: {}", limit, flashcardSetID);
+
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to create flashcard set");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
+
+        checkReadAccess(flashcardSetID, currentUserID);
+
+        int size = Math.clamp(limit, 1, MAX_DUE_FLASHCARDS);
+
+        // Due cards first; a second query fills the rest with unseen cards in creation order
+        List<FlashcardEntity> flashcards = new ArrayList<>(size);
+        userFlashcardProgressRepository
+                .findDueByUserIdAndSetId(currentUserID, flashcardSetID, Instant.now(), PageRequest.of(0, size))
+                .forEach(progress -> flashcards.add(progress.getFlashcard()));
+
+        if (flashcards.size() < size) {
+            flashcards.addAll(flashcardRepository.findUnseenBySetId(
+                    currentUserID, flashcardSetID, PageRequest.of(0, size - flashcards.size())));
+        }
+
+        log.info("Retrieved {} due flashcards from set with id: {}", flashcards.size(), flashcardSetID);
+        return flashcards.stream()
+                .map(flashcardMapper::toFlashcardResponse)
+                .toList();
+    }
+
     @Override
     @Transactional
     public Page<FlashcardResponse> getAllFlashcards(UUID flashcardSetID, Pageable pageable) {
         log.info("Getting flashcards for flashcard set with id: {}", flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
-                .orElseThrow(() -> {
-                    log.warn("Flashcard set with ID: {} not found.", flashcardSetID);
-                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
-                });
+        checkReadAccess(flashcardSetID, currentUserID);
 
-        if (!flashcardSet.isPublicFlag() && !flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
-            log.warn("User not authenticated - forbidden to create flashcard set");
-            throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
-        }
+        // Page over ids first, then fetch the page's cards in one query
+        Page<UUID> flashcardIDs = flashcardRepository.findPageOfIdsBySetId(flashcardSetID, pageable);
+
+        Map<UUID, FlashcardEntity> flashcardsByID = flashcardIDs.isEmpty()
+                ? Map.of()
+                : flashcardRepository.findAllByIdIn(flashcardIDs.getContent()).stream()
+                        .collect(Collectors.toMap(FlashcardEntity::getId, flashcard -> flashcard));
 
-        Page<FlashcardEntity> flashcards = flashcardRepository.findAllBySetId(flashcardSetID, pageable);
+        log.info("Retrieved {} flashcards for flashcard set with id: {}", flashcardIDs.getTotalElements(), flashcardSetID);
+        List<FlashcardResponse> flashcardResponses = flashcardIDs.stream()
+                .map(flashcardsByID::get)
+                .filter(Objects::nonNull)
+                .map(flashcardMapper::toFlashcardResponse)
+                .toList();
 
-        log.info("Retrieved {} flashcards for flashcard set with id: {}", flashcards.getTotalElements(), flashcardSetID);
-        return flashcards.map(flashcardMapper::toFlashcardResponse);
+        return new PageImpl<>(flashcardResponses, flashcardIDs.getPageable(), flashcardIDs.getTotalElements());
     }
 
     @Override
@@ -130,19 +196,19 @@ public class FlashcardServiceImpl implements FlashcardService {
     public FlashcardResponse createFlashcard(UUID flashcardSetID, CreateFlashcardRequest createFlashcardRequest) {
         log.info("Creating flashcard with word: {} in flashcard set with id: {}", createFlashcardRequest.word(), flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
+        FlashcardSetEntity flashcardSet = flashcardSetRepository.findByIdForUpdate(flashcardSetID)
                 .orElseThrow(() -> {
                     log.warn("Flashcard set with id: {} not found", flashcardSetID);
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
                 });
 
-        if (!flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!flashcardSet.getAuthor().getId().equals(currentUserID)) {
             log.warn("User not authenticated - forbidden to create flashcard set");
             throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
@@ -171,82 +237,36 @@ public class FlashcardServiceImpl implements FlashcardService {
                 .build();
 
         FlashcardEntity savedFlashcard = flashcardRepository.save(flashcard);
-        flashcardSet.getFlashcards().add(savedFlashcard);
+        flashcardSet.setCardCount(flashcardSet.getCardCount() + 1);
+        flashcardSet.setContentVersion(flashcardSet.getContentVersion() + 1);
+        flashcardDrawService.invalidate(flashcardSetID);
+        searchIndex.indexFlashcards(List.of(savedFlashcard));
 
         log.info("Created flashcard with id: {} and word: {}", savedFlashcard.getId(), savedFlashcard.getWord());
         return flashcardMapper.toFlashcardResponse(savedFlashcard);
     }
 
     @Override
-    @Transactional
     public List<FlashcardResponse> batchFlashcards(UUID flashcardSetID, List<CreateFlashcardRequest> createFlashcardRequests) {
         log.info("Batch creating flashcards in flashcard set with id: {}", flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
-                .orElseThrow(() -> {
-                    log.warn("User not authenticated - forbidden to create flashcard set");
-                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
-                });
-
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
-                .orElseThrow(() -> {
-                    log.warn("Flashcard set with id: {} not found", flashcardSetID);
-                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
-                });
+        checkAuthorAccess(flashcardSetID);
 
-        if (!flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
-            log.warn("User not authenticated - forbidden to create flashcard set");
-            throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
-        }
-
-        Map<String, CreateFlashcardRequest> uniqueRequests = createFlashcardRequests.stream()
-                .collect(Collectors.toMap(
-                        CreateFlashcardRequest::word,
-                        cr -> cr,
-                        (existing, replacement) -> existing
-                ));
-
-        List<String> existingWords = flashcardRepository.findWordsBySetId(flashcardSetID);
-        Set<String> existingWordsSet = new HashSet<>(existingWords);
+        List<FlashcardResponse> flashcardResponses = new ArrayList<>();
+        flashcardImportService.importFlashcards(flashcardSetID, createFlashcardRequests.iterator(), created ->
+                created.forEach(flashcard -> flashcardResponses.add(flashcardMapper.toFlashcardResponse(flashcard))));
 
-        List<CreateFlashcardRequest> filteredRequests = uniqueRequests.values().stream()
-                .filter(cr -> !existingWordsSet.contains(cr.word()))
-                .toList();
-
-        if (filteredRequests.isEmpty()) {
-            log.info("No new flashcards to create for flashcard set with id: {}", flashcardSetID);
-            return Collections.emptyList();
-        }
+        log.info("Batch created {} flashcards in flashcard set with id: {}", flashcardResponses.size(), flashcardSetID);
+        return flashcardResponses;
+    }
 
-        List<FlashcardEntity> flashcardEntities = filteredRequests.stream()
-                .map(createFlashcardRequest -> {
-                    List<String> useExamples = createFlashcardRequest.useExamples();
-                    if (useExamples == null) {
-                        useExamples = Collections.emptyList();
-                    } else {
-                        useExamples = useExamples.stream()
-                                .filter(example -> example != null && !example.isBlank())
-                                .toList();
-                    }
-
-                    return FlashcardEntity.builder()
-                            .set(flashcardSet)
-                            .word(createFlashcardRequest.word())
-                            .description(createFlashcardRequest.description())
-                            .translation(createFlashcardRequest.translation())
-                            .difficultyLevel(createFlashcardRequest.difficultyLevel())
-                            .useExamples(useExamples)
-                            .build();
-                })
-                .toList();
+    @Override
+    public FlashcardImportReport importFlashcards(UUID flashcardSetID, List<CreateFlashcardRequest> createFlashcardRequests) {
+        log.info("Importing {} flashcards into flashcard set with id: {}", createFlashcardRequests.size(), flashcardSetID);
 
-        List<FlashcardEntity> savedFlashcards = flashcardRepository.saveAll(flashcardEntities);
-        flashcardSet.getFlashcards().addAll(savedFlashcards);
+        checkAuthorAccess(flashcardSetID);
 
-        log.info("Batch created {} flashcards in flashcard set with id: {}", savedFlashcards.size(), flashcardSetID);
-        return savedFlashcards.stream()
-                .map(flashcardMapper::toFlashcardResponse)
-                .toList();
+        return flashcardImportService.importFlashcards(flashcardSetID, createFlashcardRequests.iterator());
     }
 
     @Override
@@ -254,50 +274,42 @@ public class FlashcardServiceImpl implements FlashcardService {
     public FlashcardResponse updateFlashcard(UUID flashcardSetID, UUID flashcardID, UpdateFlashcardRequest updateFlashcardRequest) {
         log.info("Updating flashcard with id: {} in flashcard set with id: {}", flashcardID, flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
-                .orElseThrow(() -> {
-                    log.warn("Flashcard set with id: {} not found", flashcardSetID);
-                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
-                });
-
-        if (!flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
-            log.warn("User not authenticated - forbidden to create flashcard set");
-            throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
+        List<String> useExamples = updateFlashcardRequest.useExamples()
+                .map(list -> list.stream()
+                        .filter(example -> example != null && !example.isBlank())
+                        .toList())
+                .orElse(null);
+
+        int updated = flashcardRepository.updateByIdAndSetIdAndAuthorId(
+                flashcardID,
+                flashcardSetID,
+                currentUserID,
+                updateFlashcardRequest.word().filter(word -> !word.isBlank()).orElse(null),
+                updateFlashcardRequest.description().filter(desc -> !desc.isBlank()).orElse(null),
+                updateFlashcardRequest.translation().orElse(null),
+                updateFlashcardRequest.difficultyLevel().orElse(null),
+                useExamples);
+
+        if (updated == 0) {
+            checkAuthorAccess(flashcardSetID, currentUserID);
+            log.warn("Flashcard with id: {} not found", flashcardID);
+            throw new BusinessException(BusinessExceptionReason.FLASHCARD_NOT_FOUND);
         }
 
-        FlashcardEntity flashcard = flashcardRepository.findByIdAndSetId(flashcardID, flashcardSetID)
+        recordCardChange(flashcardSetID, 0);
+
+        FlashcardEntity updatedFlashcard = flashcardRepository.findByIdAndSetId(flashcardID, flashcardSetID)
                 .orElseThrow(() -> {
                     log.warn("Flashcard with id: {} not found", flashcardID);
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_NOT_FOUND);
                 });
-
-        updateFlashcardRequest.word()
-                .filter(word -> !word.isBlank())
-                .ifPresent(flashcard::setWord);
-
-        updateFlashcardRequest.description()
-                .filter(desc -> !desc.isBlank())
-                .ifPresent(flashcard::setDescription);
-
-        updateFlashcardRequest.translation()
-                .ifPresent(flashcard::setTranslation);
-
-        updateFlashcardRequest.difficultyLevel()
-                .ifPresent(flashcard::setDifficultyLevel);
-
-        updateFlashcardRequest.useExamples()
-                .map(list -> list.stream()
-                        .filter(example -> example != null && !example.isBlank())
-                        .toList())
-                .ifPresent(flashcard::setUseExamples);
-
-        FlashcardEntity updatedFlashcard = flashcardRepository.save(flashcard);
+        searchIndex.indexFlashcards(List.of(updatedFlashcard));
 
         log.info("Updated flashcard with id: {} successfully", flashcardID);
         return flashcardMapper.toFlashcardResponse(updatedFlashcard);
@@ -308,57 +320,117 @@ public class FlashcardServiceImpl implements FlashcardService {
     public UserFlashcardProgressResponse updateFlashcardProgress(UUID flashcardSetID, UUID flashcardID, UpdateFlashcardProgressRequest updateFlashcardProgressRequest) {
         log.info("Updating progress for flashcard with id: {} in flashcard set with id: {}", flashcardID, flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
+        AuthorizedFlashcard authorizedFlashcard = flashcardRepository.findAuthorizedByIdAndSetId(flashcardID, flashcardSetID)
                 .orElseThrow(() -> {
-                    log.warn("Flashcard set with id: {} not found", flashcardSetID);
-                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
+                    log.warn("Flashcard with id: {} not found", flashcardID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_NOT_FOUND);
                 });
 
-        if (!flashcardSet.isPublicFlag() && !flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!authorizedFlashcard.publicFlag() && !Objects.equals(authorizedFlashcard.authorID(), currentUserID)) {
             log.warn("User not authenticated - forbidden to create flashcard set");
             throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
 
-        FlashcardEntity flashcard = flashcardRepository.findByIdAndSetId(flashcardID, flashcardSetID)
+        boolean isUnsure = updateFlashcardProgressRequest.isUnsure();
+        UserFlashcardProgressEntity firstReview = UserFlashcardProgressEntity.builder().build();
+        spacedRepetitionScheduler.review(firstReview, isUnsure, Instant.now());
+
+        UserFlashcardProgressRow progress = userFlashcardProgressRepository.upsertReview(
+                currentUserID, flashcardID, firstReview, spacedRepetitionScheduler.easeFactorDelta(isUnsure));
+
+        log.info("Progress update for flashcard with id: {} completed", flashcardID);
+
+        return userFlashcardProgressMapper.toUserFlashcardProgressResponse(authorizedFlashcard.flashcard(), progress);
+    }
+
+    @Override
+    public BatchFlashcardProgressResponse batchUpdateFlashcardProgress(UUID flashcardSetID, BatchFlashcardProgressRequest batchFlashcardProgressRequest) {
+        try {
+            return transactionTemplate.execute(status -> applyReviews(flashcardSetID, batchFlashcardProgressRequest));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent review inserted the first progress row of one of the flashcards; the replay loads that
+            // row and applies the events to it like to any other existing progress
+            log.info("Concurrent first review in flashcard set with id: {} - retrying batch progress update", flashcardSetID);
+            return transactionTemplate.execute(status -> applyReviews(flashcardSetID, batchFlashcardProgressRequest));
+        }
+    }
+
+    private BatchFlashcardProgressResponse applyReviews(UUID flashcardSetID, BatchFlashcardProgressRequest batchFlashcardProgressRequest) {
+        List<FlashcardReviewEvent> events = batchFlashcardProgressRequest.events();
+        log.info("Batch updating progress with {} reviews in flashcard set with id: {}", events.size(), flashcardSetID);
+
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
-                    log.warn("Flashcard with id: {} not found", flashcardID);
-                    return new BusinessException(BusinessExceptionReason.FLASHCARD_NOT_FOUND);
+                    log.warn("User not authenticated - forbidden to create flashcard set");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        Optional<UserFlashcardProgressEntity> optionalProgress = userFlashcardProgressRepository
-                .findByUserIdAndFlashcardId(currentUser.getId(), flashcardID);
+        checkReadAccess(flashcardSetID, currentUserID);
 
-        FlashcardLearningLevel learningLevel = updateFlashcardProgressRequest.isUnsure()
-                ? FlashcardLearningLevel.UNSURE : FlashcardLearningLevel.CONFIDENT;
+        Set<UUID> requestedIDs = events.stream()
+                .map(FlashcardReviewEvent::flashcardID)
+                .collect(Collectors.toSet());
 
-        UserFlashcardProgressEntity progress;
-        if (optionalProgress.isPresent()) {
-            progress = optionalProgress.get();
-            log.info("Updating existing progress for user id: {} and flashcard id: {}", currentUser.getId(), flashcardID);
-            progress.setLearningLevel(learningLevel);
-            progress.setRepetitionCount(progress.getRepetitionCount() + 1);
-        } else {
-            progress = UserFlashcardProgressEntity.builder()
-                    .user(currentUser)
-                    .flashcard(flashcard)
-                    .learningLevel(learningLevel)
-                    .repetitionCount(1)
-                    .build();
-            log.info("Creating new progress for user id: {} and flashcard id: {}", currentUser.getId(), flashcardID);
+        Set<UUID> knownIDs = new HashSet<>(flashcardRepository.findIdsBySetIdAndIdIn(flashcardSetID, requestedIDs));
+
+        Map<UUID, UserFlashcardProgressEntity> progressByFlashcardID = userFlashcardProgressRepository
+                .findAllForUpdateByUserIdAndFlashcardIdIn(currentUserID, knownIDs).stream()
+                .collect(Collectors.toMap(progress -> progress.getFlashcard().getId(), progress -> progress));
+
+        // Replaying events in review order makes duplicates and already applied events fall behind lastReviewedAt
+        List<FlashcardReviewEvent> orderedEvents = events.stream()
+                .sorted(Comparator.comparing(FlashcardReviewEvent::reviewedAt))
+                .toList();
+
+        Instant latestAccepted = Instant.now().plus(MAX_CLIENT_CLOCK_SKEW);
+        Map<UUID, UserFlashcardProgressEntity> changed = new LinkedHashMap<>();
+        int applied = 0;
+        int skipped = 0;
+
+        for (FlashcardReviewEvent event : orderedEvents) {
+            if (!knownIDs.contains(event.flashcardID())) {
+                continue;
+            }
+
+            UserFlashcardProgressEntity progress = progressByFlashcardID.computeIfAbsent(event.flashcardID(),
+                    flashcardID -> UserFlashcardProgressEntity.builder()
+                            .user(userService.getUserReference(currentUserID))
+                            .flashcard(flashcardRepository.getReferenceById(flashcardID))
+                            .build());
+
+            Instant lastReviewedAt = progress.getLastReviewedAt();
+            if (event.reviewedAt().isAfter(latestAccepted)
+                    || (lastReviewedAt != null && !event.reviewedAt().isAfter(lastReviewedAt))) {
+                skipped++;
+                continue;
+            }
+
+            spacedRepetitionScheduler.review(progress, event.isUnsure(), event.reviewedAt());
+            changed.put(event.flashcardID(), progress);
+            applied++;
         }
 
-        progress.setLastReviewedAt(Instant.now());
-        userFlashcardProgressRepository.save(progress);
+        userFlashcardProgressRepository.saveAll(changed.values());
+        userFlashcardProgressRepository.flush();
 
-        log.info("Progress update for flashcard with id: {} completed", flashcardID);
+        List<UUID> unknownFlashcardIDs = requestedIDs.stream()
+                .filter(flashcardID -> !knownIDs.contains(flashcardID))
+                .toList();
 
-        return userFlashcardProgressMapper.toUserFlashcardProgressResponse(progress);
+        log.info("Batch progress update in flashcard set with id: {} completed - applied: {}, skipped: {}, unknown flashcards: {}",
+                flashcardSetID, applied, skipped, unknownFlashcardIDs.size());
+
+        return BatchFlashcardProgressResponse.builder()
+                .applied(applied)
+                .skipped(skipped)
+                .unknownFlashcardIDs(unknownFlashcardIDs)
+                .build();
     }
 
     @Override
@@ -366,25 +438,79 @@ public class FlashcardServiceImpl implements FlashcardService {
     public void deleteFlashcard(UUID flashcardSetID, UUID flashcardID) {
         log.info("Deleting flashcard with id: {} from flashcard set with id: {}", flashcardID, flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
+        int deleted = flashcardRepository.deleteByIdAndSetIdAndAuthorId(flashcardID, flashcardSetID, currentUserID);
+        if (deleted == 0) {
+            // Nothing matched: either the caller may not write to the set, or the card is already gone
+            checkAuthorAccess(flashcardSetID, currentUserID);
+        } else {
+            recordCardChange(flashcardSetID, -deleted);
+            flashcardDrawService.invalidate(flashcardSetID);
+            searchIndex.removeFlashcard(flashcardID);
+        }
+
+        log.info("Deleted flashcard with id: {} from flashcard set with id: {}", flashcardID, flashcardSetID);
+    }
+
+    private Optional<UUID> drawFlashcardID(UUID userID, UUID flashcardSetID, boolean shuffle) {
+        return shuffle
+                ? flashcardDrawService.drawFromDeck(userID, flashcardSetID)
+                : flashcardDrawService.drawRandom(flashcardSetID);
+    }
+
+    /**
+     * Adjusts the card count of the set and bumps its content version under a row lock, after its cards were
+     * changed by a single-statement write.
+     */
+    private void recordCardChange(UUID flashcardSetID, long cardCountDelta) {
+        FlashcardSetEntity flashcardSet = flashcardSetRepository.findByIdForUpdate(flashcardSetID)
+                .orElseThrow(() -> {
+                    log.warn("Flashcard set with id: {} not found", flashcardSetID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
+                });
+
+        flashcardSet.setCardCount(flashcardSet.getCardCount() + cardCountDelta);
+        flashcardSet.setContentVersion(flashcardSet.getContentVersion() + 1);
+    }
+
+    private void checkReadAccess(UUID flashcardSetID, UUID currentUserID) {
+        FlashcardSetVersion flashcardSet = flashcardSetRepository.findVersionById(flashcardSetID)
                 .orElseThrow(() -> {
                     log.warn("Flashcard set with id: {} not found", flashcardSetID);
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
                 });
 
-        if (!flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!flashcardSet.publicFlag() && !Objects.equals(flashcardSet.authorID(), currentUserID)) {
             log.warn("User not authenticated - forbidden to create flashcard set");
             throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
+    }
+
+    private void checkAuthorAccess(UUID flashcardSetID) {
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to create flashcard set");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
 
-        flashcardRepository.deleteByIdAndSetId(flashcardID, flashcardSetID);
+        checkAuthorAccess(flashcardSetID, currentUserID);
+    }
 
-        log.info("Deleted flashcard with id: {} from flashcard set with id: {}", flashcardID, flashcardSetID);
+    private void checkAuthorAccess(UUID flashcardSetID, UUID currentUserID) {
+        FlashcardSetVersion flashcardSet = flashcardSetRepository.findVersionById(flashcardSetID)
+                .orElseThrow(() -> {
+                    log.warn("Flashcard set with id: {} not found", flashcardSetID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
+                });
+
+        if (!Objects.equals(flashcardSet.authorID(), currentUserID)) {
+            log.warn("User not authenticated - forbidden to create flashcard set");
+            throw new BusinessException(BusinessExceptionReason.FORBIDDEN);
+        }
     }
 }
@@ -0,0 +1,38 @@
+package com.echofyteam.backend.feature.flashcard.service.impl;
+
+import com.echofyteam.backend.exception.impl.BusinessException;
+import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a flashcard set listing ordered by {@code (createdAt, id)} descending.
+ * Clients only ever see it as an opaque, URL-safe token.
+ *
+ * @param createdAt the creation timestamp of the last set on the previous page
+ * @param id        the unique identifier of the last set on the previous page
+ */
+record FlashcardSetCursor(Instant createdAt, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static FlashcardSetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new FlashcardSetCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(BusinessExceptionReason.INVALID_CURSOR);
+        }
+    }
+}
@@ -2,84 +2,175 @@ package com.echofyteam.backend.feature.flashcard.service.impl;
 
 import com.echofyteam.backend.exception.impl.BusinessException;
 import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardSetRequest;
 import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardSetRequest;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardImportReport;
+import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardSetCursorPage;
 import com.echofyteam.backend.feature.flashcard.dto.response.FlashcardSetResponse;
 import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import com.echofyteam.backend.feature.flashcard.exchange.FlashcardExchangeFormat;
+import com.echofyteam.backend.feature.flashcard.exchange.FlashcardExchangeReader;
+import com.echofyteam.backend.feature.flashcard.exchange.FlashcardExchangeWriter;
 import com.echofyteam.backend.feature.flashcard.mapper.FlashcardSetMapper;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
 import com.echofyteam.backend.feature.flashcard.repository.FlashcardSetRepository;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardExportRow;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetSummary;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetVersion;
 import com.echofyteam.backend.feature.flashcard.service.FlashcardSetService;
-import com.echofyteam.backend.feature.user.entity.UserEntity;
+import com.echofyteam.backend.feature.search.index.SearchIndex;
 import com.echofyteam.backend.feature.user.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FlashcardSetServiceImpl implements FlashcardSetService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final FlashcardSetRepository flashcardSetRepository;
     private final FlashcardSetMapper flashcardSetMapper;
     private final UserService userService;
+    private final FlashcardDrawService flashcardDrawService;
+    private final FlashcardImportService flashcardImportService;
+    private final FlashcardRepository flashcardRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final SearchIndex searchIndex;
 
     @Override
     public Page<FlashcardSetResponse> getAllPublicFlashcardSets(Pageable pageable) {
-        Page<FlashcardSetEntity> flashcardSets = flashcardSetRepository.findAllByPublicFlagTrue(pageable);
+        Page<FlashcardSetSummary> flashcardSets = flashcardSetRepository.findAllPublicSummaries(pageable);
 
         return flashcardSets.map(flashcardSetMapper::toFlashcardSetResponse);
     }
 
     @Override
     public Page<FlashcardSetResponse> getAllPersonalFlashcardSets(Pageable pageable) {
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        Page<FlashcardSetEntity> flashcardSets = flashcardSetRepository.findAllByAuthorId(currentUser.getId(), pageable);
+        Page<FlashcardSetSummary> flashcardSets = flashcardSetRepository.findAllSummariesByAuthorId(currentUserID, pageable);
 
         return flashcardSets.map(flashcardSetMapper::toFlashcardSetResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FlashcardSetCursorPage getPublicFlashcardSets(String cursor, int size, boolean includeTotal) {
+        Limit limit = Limit.of(Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE) + 1);
+
+        List<FlashcardSetSummary> flashcardSets;
+        if (cursor == null || cursor.isBlank()) {
+            flashcardSets = flashcardSetRepository.findPublicSummariesFirst(limit);
+        } else {
+            FlashcardSetCursor position = FlashcardSetCursor.decode(cursor);
+            flashcardSets = flashcardSetRepository.findPublicSummariesAfter(position.createdAt(), position.id(), limit);
+        }
+
+        Long total = includeTotal ? flashcardSetRepository.countByPublicFlagTrue() : null;
+        return toCursorPage(flashcardSets, limit.max() - 1, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FlashcardSetCursorPage getPersonalFlashcardSets(String cursor, int size, boolean includeTotal) {
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to create flashcard set");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
+
+        Limit limit = Limit.of(Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE) + 1);
+
+        List<FlashcardSetSummary> flashcardSets;
+        if (cursor == null || cursor.isBlank()) {
+            flashcardSets = flashcardSetRepository.findSummariesByAuthorIdFirst(currentUserID, limit);
+        } else {
+            FlashcardSetCursor position = FlashcardSetCursor.decode(cursor);
+            flashcardSets = flashcardSetRepository.findSummariesByAuthorIdAfter(
+                    currentUserID, position.createdAt(), position.id(), limit);
+        }
+
+        Long total = includeTotal ? flashcardSetRepository.countByAuthorId(currentUserID) : null;
+        return toCursorPage(flashcardSets, limit.max() - 1, total);
+    }
+
     @Override
     public FlashcardSetResponse getFlashcardSetByID(UUID flashcardSetID) {
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
+        FlashcardSetSummary flashcardSet = flashcardSetRepository.findSummaryById(flashcardSetID)
                 .orElseThrow(() -> {
                     log.warn("Flashcard set with ID: {} not found.", flashcardSetID);
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
                 });
 
-        if (!flashcardSet.isPublicFlag() && !flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!flashcardSet.publicFlag() && !currentUserID.equals(flashcardSet.authorID())) {
             throw  new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
 
         return flashcardSetMapper.toFlashcardSetResponse(flashcardSet);
     }
 
+    @Override
+    public FlashcardSetVersion getFlashcardSetVersion(UUID flashcardSetID) {
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to create flashcard set");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
+
+        FlashcardSetVersion flashcardSetVersion = flashcardSetRepository.findVersionById(flashcardSetID)
+                .orElseThrow(() -> {
+                    log.warn("Flashcard set with ID: {} not found.", flashcardSetID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
+                });
+
+        if (!flashcardSetVersion.publicFlag() && !currentUserID.equals(flashcardSetVersion.authorID())) {
+            throw  new BusinessException(BusinessExceptionReason.FORBIDDEN);
+        }
+
+        return flashcardSetVersion;
+    }
+
     @Override
     @Transactional
     public FlashcardSetResponse createFlashcardSet(CreateFlashcardSetRequest createFlashcardSetRequest) {
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        log.info("User with id: {} is creating flashcard set titled: '{}'", currentUser.getId(), createFlashcardSetRequest.title());
+        log.info("User with id: {} is creating flashcard set titled: '{}'", currentUserID, createFlashcardSetRequest.title());
 
         String previewUrl = createFlashcardSetRequest.previewUrl();
         if (previewUrl != null && previewUrl.isBlank()) {
@@ -89,16 +180,17 @@ public class FlashcardSetServiceImpl implements FlashcardSetService {
         FlashcardSetEntity flashcardSet = FlashcardSetEntity.builder()
                 .title(createFlashcardSetRequest.title())
                 .previewUrl(previewUrl)
-                .author(currentUser)
+                .author(userService.getUserReference(currentUserID))
                 .flashcards(new ArrayList<>())
                 .publicFlag(createFlashcardSetRequest.publicFlag())
                 .build();
 
         FlashcardSetEntity savedFlashcardSet = flashcardSetRepository.save(flashcardSet);
+        searchIndex.indexFlashcardSet(savedFlashcardSet);
 
-        log.info("Flashcard set with id: {} and title: '{}' created successfully by user id: {}", savedFlashcardSet.getId(), savedFlashcardSet.getTitle(), currentUser.getId());
+        log.info("Flashcard set with id: {} and title: '{}' created successfully by user id: {}", savedFlashcardSet.getId(), savedFlashcardSet.getTitle(), currentUserID);
 
-        return flashcardSetMapper.toFlashcardSetResponse(savedFlashcardSet);
+        return toFlashcardSetResponse(savedFlashcardSet.getId());
     }
 
     @Override
@@ -106,7 +198,7 @@ public class FlashcardSetServiceImpl implements FlashcardSetService {
     public FlashcardSetResponse updateFlashcardSet(UUID flashcardSetID, UpdateFlashcardSetRequest updateFlashcardSetRequest) {
         log.info("Attempting to update flashcard set with ID: {}", flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
@@ -118,7 +210,7 @@ public class FlashcardSetServiceImpl implements FlashcardSetService {
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
                 });
 
-        if (!flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!flashcardSet.getAuthor().getId().equals(currentUserID)) {
             throw  new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
 
@@ -133,10 +225,13 @@ public class FlashcardSetServiceImpl implements FlashcardSetService {
         updateFlashcardSetRequest.publicFlag()
                 .ifPresent(flashcardSet::setPublicFlag);
 
+        flashcardSet.setContentVersion(flashcardSet.getContentVersion() + 1);
+
         FlashcardSetEntity updatedFlashcardSet = flashcardSetRepository.save(flashcardSet);
+        searchIndex.indexFlashcardSet(updatedFlashcardSet);
 
         log.info("Flashcard set with ID: {} updated successfully.", flashcardSetID);
-        return flashcardSetMapper.toFlashcardSetResponse(updatedFlashcardSet);
+        return toFlashcardSetResponse(updatedFlashcardSet.getId());
     }
 
     @Override
@@ -144,23 +239,143 @@ public class FlashcardSetServiceImpl implements FlashcardSetService {
     public void deleteFlashcardSet(UUID flashcardSetID) {
         log.info("Attempting to delete flashcard set with id: {}", flashcardSetID);
 
-        UserEntity currentUser = userService.getCurrentUser()
+        UUID currentUserID = userService.getCurrentUserID()
                 .orElseThrow(() -> {
                     log.warn("User not authenticated - forbidden to create flashcard set");
                     return new BusinessException(BusinessExceptionReason.FORBIDDEN);
                 });
 
-        FlashcardSetEntity flashcardSet = flashcardSetRepository.findById(flashcardSetID)
+        FlashcardSetVersion flashcardSet = flashcardSetRepository.findVersionById(flashcardSetID)
                 .orElseThrow(() -> {
                     log.warn("Flashcard set with id: {} not found for deletion", flashcardSetID);
                     return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
                 });
 
-        if (!flashcardSet.getAuthor().getId().equals(currentUser.getId())) {
+        if (!Objects.equals(flashcardSet.authorID(), currentUserID)) {
             throw  new BusinessException(BusinessExceptionReason.FORBIDDEN);
         }
 
         flashcardSetRepository.deleteById(flashcardSetID);
+        flashcardDrawService.invalidate(flashcardSetID);
+        searchIndex.removeFlashcardSet(flashcardSetID);
         log.info("Flashcard set with id: {} deleted successfully", flashcardSetID);
     }
+
+    @Override
+    public StreamingResponseBody exportFlashcardSet(UUID flashcardSetID, FlashcardExchangeFormat format) {
+        log.info("Exporting flashcard set with id: {} as {}", flashcardSetID, format);
+
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to create flashcard set");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
+
+        FlashcardSetVersion flashcardSet = flashcardSetRepository.findVersionById(flashcardSetID)
+                .orElseThrow(() -> {
+                    log.warn("Flashcard set with ID: {} not found.", flashcardSetID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
+                });
+
+        if (!flashcardSet.publicFlag() && !Objects.equals(flashcardSet.authorID(), currentUserID)) {
+            throw  new BusinessException(BusinessExceptionReason.FORBIDDEN);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return outputStream -> {
+            FlashcardExchangeWriter writer = new FlashcardExchangeWriter(
+                    format, new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)), objectMapper);
+            writer.writeHeader();
+
+            Long exported = transactionTemplate.execute(status -> {
+                try (Stream<FlashcardExportRow> rows = flashcardRepository.streamExportRowsBySetId(flashcardSetID)) {
+                    return writeExportRows(rows.iterator(), writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+            log.info("Exported {} flashcards from flashcard set with id: {}", exported, flashcardSetID);
+        };
+    }
+
+    @Override
+    public FlashcardImportReport importFlashcardSet(UUID flashcardSetID, FlashcardExchangeFormat format, InputStream inputStream) {
+        log.info("Importing flashcard set with id: {} from {}", flashcardSetID, format);
+
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to create flashcard set");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
+
+        FlashcardSetVersion flashcardSet = flashcardSetRepository.findVersionById(flashcardSetID)
+                .orElseThrow(() -> {
+                    log.warn("Flashcard set with id: {} not found", flashcardSetID);
+                    return new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND);
+                });
+
+        if (!Objects.equals(flashcardSet.authorID(), currentUserID)) {
+            throw  new BusinessException(BusinessExceptionReason.FORBIDDEN);
+        }
+
+        try (FlashcardExchangeReader reader = new FlashcardExchangeReader(
+                format, new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), objectMapper)) {
+            return flashcardImportService.importFlashcards(flashcardSetID, reader);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to read import of flashcard set with id: {}", flashcardSetID, e);
+            throw new BusinessException(BusinessExceptionReason.INVALID_IMPORT_FILE, 0L, e.getMessage());
+        }
+    }
+
+    /**
+     * Builds a page from up to {@code size + 1} rows; the extra row only signals that another page exists.
+     */
+    private FlashcardSetCursorPage toCursorPage(List<FlashcardSetSummary> flashcardSets, int size, Long total) {
+        boolean hasNext = flashcardSets.size() > size;
+        List<FlashcardSetSummary> page = hasNext ? flashcardSets.subList(0, size) : flashcardSets;
+
+        String nextCursor = null;
+        if (hasNext) {
+            FlashcardSetSummary last = page.getLast();
+            nextCursor = new FlashcardSetCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return FlashcardSetCursorPage.builder()
+                .content(page.stream().map(flashcardSetMapper::toFlashcardSetResponse).toList())
+                .nextCursor(nextCursor)
+                .totalElements(total)
+                .build();
+    }
+
+    private FlashcardSetResponse toFlashcardSetResponse(UUID flashcardSetID) {
+        return flashcardSetRepository.findSummaryById(flashcardSetID)
+                .map(flashcardSetMapper::toFlashcardSetResponse)
+                .orElseThrow(() -> new BusinessException(BusinessExceptionReason.FLASHCARD_SET_NOT_FOUND));
+    }
+
+    /**
+     * Writes the rows as they are read from the cursor, so only a single flashcard is held in memory at a time.
+     */
+    private static long writeExportRows(Iterator<FlashcardExportRow> rows, FlashcardExchangeWriter writer) throws IOException {
+        long exported = 0;
+        while (rows.hasNext()) {
+            writer.write(toExchangeRecord(rows.next()));
+            exported++;
+        }
+        return exported;
+    }
+
+    private static CreateFlashcardRequest toExchangeRecord(FlashcardExportRow row) {
+        return CreateFlashcardRequest.builder()
+                .word(row.word())
+                .description(row.description())
+                .translation(row.translation())
+                .difficultyLevel(row.difficultyLevel())
+                .useExamples(row.useExamples())
+                .build();
+    }
 }
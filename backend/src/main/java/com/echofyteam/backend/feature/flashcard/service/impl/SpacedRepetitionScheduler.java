@@ -0,0 +1,72 @@
+package com.echofyteam.backend.feature.flashcard.service.impl;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardLearningLevel;
+import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * SM-2 spaced repetition scheduler.
+ * <p>
+ * An unsure answer is graded as a failed recall (quality 2) and restarts the card at a one day interval;
+ * a confident answer is graded as a correct recall (quality 4) and grows the interval 1 → 6 → interval × ease.
+ * The ease factor is adjusted by the standard SM-2 formula and never drops below {@value #MIN_EASE_FACTOR}.
+ * </p>
+ * <p>
+ * Single reviews are applied in SQL by {@code UserFlashcardProgressRepository#upsertReview}, which mirrors
+ * {@link #review}; both must be changed together.
+ * </p>
+ */
+@Component
+public class SpacedRepetitionScheduler {
+    public static final double MIN_EASE_FACTOR = 1.3;
+
+    private static final int UNSURE_QUALITY = 2;
+    private static final int CONFIDENT_QUALITY = 4;
+    private static final int PASSING_QUALITY = 3;
+
+    /**
+     * Applies a single review to the progress and schedules the next one.
+     *
+     * @param progress   the progress to update
+     * @param isUnsure   whether the user was unsure about the card
+     * @param reviewedAt the moment of the review
+     */
+    public void review(UserFlashcardProgressEntity progress, boolean isUnsure, Instant reviewedAt) {
+        int quality = isUnsure ? UNSURE_QUALITY : CONFIDENT_QUALITY;
+
+        int intervalDays;
+        if (quality < PASSING_QUALITY) {
+            intervalDays = 1;
+            progress.setStreak(0);
+        } else {
+            intervalDays = switch (progress.getStreak()) {
+                case 0 -> 1;
+                case 1 -> 6;
+                default -> (int) Math.round(progress.getIntervalDays() * progress.getEaseFactor());
+            };
+            progress.setStreak(progress.getStreak() + 1);
+        }
+
+        progress.setEaseFactor(Math.max(MIN_EASE_FACTOR, progress.getEaseFactor() + easeFactorDelta(isUnsure)));
+        progress.setIntervalDays(intervalDays);
+        progress.setDueAt(reviewedAt.plus(Duration.ofDays(intervalDays)));
+        progress.setLearningLevel(isUnsure ? FlashcardLearningLevel.UNSURE : FlashcardLearningLevel.CONFIDENT);
+        progress.setRepetitionCount(progress.getRepetitionCount() + 1);
+        progress.setLastReviewedAt(reviewedAt);
+    }
+
+    /**
+     * Returns the change of the ease factor caused by a single review, before it is clamped to
+     * {@value #MIN_EASE_FACTOR}.
+     *
+     * @param isUnsure whether the user was unsure about the card
+     * @return the ease factor delta
+     */
+    public double easeFactorDelta(boolean isUnsure) {
+        int distance = 5 - (isUnsure ? UNSURE_QUALITY : CONFIDENT_QUALITY);
+        return 0.1 - distance * (0.08 + distance * 0.02);
+    }
+}
@@ -1,7 +1,12 @@
 package com.echofyteam.backend.feature.role.entity;
 
+import com.echofyteam.backend.feature.cache.CacheRegions;
+import com.echofyteam.backend.feature.role.listener.RoleChangeListener;
+import com.echofyteam.backend.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 import java.util.HashSet;
@@ -20,9 +25,11 @@ import java.util.UUID;
                 @Index(name = "idx_permission_code", columnList = "code")
         }
 )
+@EntityListeners(RoleChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PERMISSIONS)
 public class Permission implements GrantedAuthority {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -1,7 +1,12 @@
 package com.echofyteam.backend.feature.role.entity;
 
+import com.echofyteam.backend.feature.cache.CacheRegions;
+import com.echofyteam.backend.feature.role.listener.RoleChangeListener;
+import com.echofyteam.backend.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 import java.util.HashSet;
@@ -20,9 +25,11 @@ import java.util.UUID;
                 @Index(name = "idx_role_name", columnList = "name")
         }
 )
+@EntityListeners(RoleChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLES)
 public class Role implements GrantedAuthority {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -38,6 +45,7 @@ public class Role implements GrantedAuthority {
                     @Index(name = "idx_role_permissions_permission_id", columnList = "permission_id")
             }
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLE_PERMISSIONS)
     @Builder.Default
     private Set<Permission> permissions = new HashSet<>();
 
@@ -0,0 +1,23 @@
+package com.echofyteam.backend.feature.role.listener;
+
+import com.echofyteam.backend.feature.user.cache.UserCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that drops cached users whenever a role or permission changes,
+ * since every cached user snapshot embeds its role and permission graph.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleChangeListener {
+    private final UserCache userCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onRoleChanged(Object entity) {
+        userCache.invalidateAll();
+    }
+}
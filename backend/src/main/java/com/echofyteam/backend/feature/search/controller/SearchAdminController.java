@@ -0,0 +1,38 @@
+package com.echofyteam.backend.feature.search.controller;
+
+import com.echofyteam.backend.feature.search.dto.response.SearchIndexStatusResponse;
+import com.echofyteam.backend.feature.search.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Search administration", description = "API for maintaining the search index")
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+public class SearchAdminController {
+    private final SearchService searchService;
+
+    @Operation(
+            summary = "Rebuild the search index",
+            description = "Rebuild the search index from the database. Searches keep being served from the old index until the rebuild completes",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Search index rebuilt successfully",
+                            content = @Content(schema = @Schema(implementation = SearchIndexStatusResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "A rebuild is already in progress")
+            }
+    )
+    @PostMapping("/rebuild")
+    public ResponseEntity<SearchIndexStatusResponse> rebuildIndex() {
+        SearchIndexStatusResponse searchIndexStatusResponse = searchService.rebuildIndex();
+
+        return ResponseEntity.ok(searchIndexStatusResponse);
+    }
+}
@@ -0,0 +1,67 @@
+package com.echofyteam.backend.feature.search.controller;
+
+import com.echofyteam.backend.feature.search.dto.response.SearchResultResponse;
+import com.echofyteam.backend.feature.search.index.SearchDocumentType;
+import com.echofyteam.backend.feature.search.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@Tag(name = "Search", description = "API for searching flashcards and flashcard sets")
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private final SearchService searchService;
+
+    @Operation(
+            summary = "Search flashcards and flashcard sets",
+            description = "Ranked full-text search over flashcard words, translations and descriptions and flashcard set titles. " +
+                    "The last query term also matches as a prefix. Only public sets and the current user's own sets are searched",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
+            }
+    )
+    @GetMapping
+    public ResponseEntity<List<SearchResultResponse>> search(
+            @Parameter(description = "Search query", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Result types to include, all by default")
+            @RequestParam(required = false) Set<SearchDocumentType> types,
+            @Parameter(description = "Maximum number of results (1-100)")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<SearchResultResponse> searchResultResponses = searchService.search(query, types, limit);
+
+        return ResponseEntity.ok(searchResultResponses);
+    }
+
+    @Operation(
+            summary = "Autocomplete search query",
+            description = "Suggest flashcard words and flashcard set titles matching the typed prefix",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+            }
+    )
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(
+            @Parameter(description = "Typed prefix", required = true)
+            @RequestParam("q") String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-100)")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<String> suggestions = searchService.suggest(prefix, limit);
+
+        return ResponseEntity.ok(suggestions);
+    }
+}
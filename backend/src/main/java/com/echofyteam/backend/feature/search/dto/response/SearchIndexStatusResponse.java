@@ -0,0 +1,25 @@
+package com.echofyteam.backend.feature.search.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * Response DTO describing the state of the search index after a rebuild.
+ *
+ * @param documents      number of indexed flashcards and flashcard sets
+ * @param terms          number of distinct indexed terms
+ * @param durationMillis time the rebuild took in milliseconds
+ */
+@Builder
+@Schema(name = "SearchIndexStatusResponse", description = "Response payload describing the search index after a rebuild")
+public record SearchIndexStatusResponse(
+        @Schema(description = "Number of indexed flashcards and flashcard sets", example = "120000")
+        int documents,
+
+        @Schema(description = "Number of distinct indexed terms", example = "45000")
+        int terms,
+
+        @Schema(description = "Time the rebuild took in milliseconds", example = "850")
+        long durationMillis
+) {
+}
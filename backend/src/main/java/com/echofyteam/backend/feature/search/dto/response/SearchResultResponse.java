@@ -0,0 +1,40 @@
+package com.echofyteam.backend.feature.search.dto.response;
+
+import com.echofyteam.backend.feature.search.index.SearchDocumentType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Response DTO representing a single search result.
+ *
+ * @param type   whether the result is a flashcard or a flashcard set
+ * @param id     unique identifier of the flashcard or flashcard set
+ * @param setID  unique identifier of the flashcard set the result belongs to
+ * @param title  word of the flashcard or title of the flashcard set
+ * @param detail translation or description of the flashcard, absent for sets
+ * @param score  relevance score, higher is better
+ */
+@Builder
+@Schema(name = "SearchResultResponse", description = "Response payload representing a single search result")
+public record SearchResultResponse(
+        @Schema(description = "Type of the result", example = "FLASHCARD")
+        SearchDocumentType type,
+
+        @Schema(description = "Unique identifier of the flashcard or flashcard set", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID id,
+
+        @Schema(description = "Unique identifier of the flashcard set the result belongs to", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID setID,
+
+        @Schema(description = "Word of the flashcard or title of the flashcard set", example = "apple")
+        String title,
+
+        @Schema(description = "Translation or description of the flashcard", example = "яблоко")
+        String detail,
+
+        @Schema(description = "Relevance score, higher is better", example = "7.42")
+        double score
+) {
+}
@@ -0,0 +1,6 @@
+package com.echofyteam.backend.feature.search.index;
+
+public enum SearchDocumentType {
+    FLASHCARD,
+    FLASHCARD_SET
+}
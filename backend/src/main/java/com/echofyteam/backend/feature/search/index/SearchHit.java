@@ -0,0 +1,22 @@
+package com.echofyteam.backend.feature.search.index;
+
+import java.util.UUID;
+
+/**
+ * A ranked match returned by the {@link SearchIndex}.
+ *
+ * @param type   the type of the matched document
+ * @param id     the unique identifier of the matched flashcard or flashcard set
+ * @param setID  the unique identifier of the flashcard set the document belongs to
+ * @param title  the word of the flashcard or the title of the set
+ * @param detail the translation or description of the flashcard, {@code null} for sets
+ * @param score  the relevance score, higher is better
+ */
+public record SearchHit(
+        SearchDocumentType type,
+        UUID id,
+        UUID setID,
+        String title,
+        String detail,
+        double score
+) {}
@@ -0,0 +1,440 @@
+package com.echofyteam.backend.feature.search.index;
+
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardSetRepository;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSearchRow;
+import com.echofyteam.backend.feature.flashcard.repository.projection.FlashcardSetSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over flashcard words, translations and descriptions and flashcard set titles.
+ * <p>
+ * Terms are kept in a sorted map, so the last query term is matched as a prefix by a range scan. Documents are
+ * ranked by the sum of their field-weighted term frequencies times the inverse document frequency of each query
+ * term; all query terms must match. Results are filtered by set visibility: public sets and the caller's own sets.
+ * </p>
+ * <p>
+ * Changes made inside a transaction are applied after commit. A rebuild reads the whole catalogue into a fresh
+ * index and swaps it in; changes committed while the rebuild runs are replayed onto the fresh index first.
+ * </p>
+ * <p>
+ * Changes are only applied on the instance that committed them. When several instances serve the API, the
+ * others pick them up with the periodic rebuild, so their results may lag by up to one rebuild interval.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final int MAX_PREFIX_EXPANSIONS = 256;
+    private static final float PREFIX_MATCH_FACTOR = 0.7f;
+    private static final int MAX_DETAIL_LENGTH = 200;
+
+    private static final float WORD_WEIGHT = 3.0f;
+    private static final float TRANSLATION_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float TITLE_WEIGHT = 3.0f;
+
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardSetRepository flashcardSetRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final List<Consumer<IndexState>> pendingDuringRebuild = new ArrayList<>();
+    private IndexState state = new IndexState();
+
+    public SearchIndex(
+            FlashcardRepository flashcardRepository,
+            FlashcardSetRepository flashcardSetRepository,
+            PlatformTransactionManager transactionManager) {
+        this.flashcardRepository = flashcardRepository;
+        this.flashcardSetRepository = flashcardSetRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Indexes or re-indexes the flashcards.
+     *
+     * @param flashcards the created or updated flashcards
+     */
+    public void indexFlashcards(Collection<FlashcardEntity> flashcards) {
+        List<Document> documents = flashcards.stream()
+                .map(flashcard -> flashcardDocument(
+                        flashcard.getId(),
+                        flashcard.getSet().getId(),
+                        flashcard.getWord(),
+                        flashcard.getTranslation(),
+                        flashcard.getDescription()))
+                .toList();
+
+        afterCommit(index -> documents.forEach(index::add));
+    }
+
+    public void removeFlashcard(UUID flashcardID) {
+        afterCommit(index -> index.remove(new DocumentKey(SearchDocumentType.FLASHCARD, flashcardID)));
+    }
+
+    /**
+     * Indexes or re-indexes the set's title and visibility.
+     *
+     * @param flashcardSet the created or updated flashcard set
+     */
+    public void indexFlashcardSet(FlashcardSetEntity flashcardSet) {
+        UUID authorID = flashcardSet.getAuthor() == null ? null : flashcardSet.getAuthor().getId();
+        SetVisibility visibility = new SetVisibility(flashcardSet.isPublicFlag(), authorID);
+        Document document = setDocument(flashcardSet.getId(), flashcardSet.getTitle());
+
+        afterCommit(index -> {
+            index.sets.put(document.key().id(), visibility);
+            index.add(document);
+        });
+    }
+
+    /**
+     * Removes the set together with all of its flashcards.
+     *
+     * @param flashcardSetID the unique identifier of the deleted flashcard set
+     */
+    public void removeFlashcardSet(UUID flashcardSetID) {
+        afterCommit(index -> {
+            index.remove(new DocumentKey(SearchDocumentType.FLASHCARD_SET, flashcardSetID));
+            Set<UUID> flashcardIDs = index.flashcardsBySet.remove(flashcardSetID);
+            if (flashcardIDs != null) {
+                List.copyOf(flashcardIDs).forEach(id -> index.remove(new DocumentKey(SearchDocumentType.FLASHCARD, id)));
+            }
+            index.sets.remove(flashcardSetID);
+        });
+    }
+
+    /**
+     * Finds the best matching documents visible to the user.
+     *
+     * @param query  the free-text query; its last term is matched as a prefix
+     * @param types  the document types to return
+     * @param userID the unique identifier of the current user, used for visibility of private sets
+     * @param limit  the maximum number of hits
+     * @return the hits, best first
+     */
+    public List<SearchHit> search(String query, Set<SearchDocumentType> types, UUID userID, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            IndexState index = state;
+            Map<DocumentKey, Double> scores = null;
+
+            for (int i = 0; i < terms.size() && (scores == null || !scores.isEmpty()); i++) {
+                Map<DocumentKey, Double> termScores = i == terms.size() - 1
+                        ? index.scorePrefix(terms.get(i))
+                        : index.scoreExact(terms.get(i));
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<DocumentKey, Double> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<DocumentKey, Double> entry : termScores.entrySet()) {
+                        Double score = previous.get(entry.getKey());
+                        if (score != null) {
+                            scores.put(entry.getKey(), score + entry.getValue());
+                        }
+                    }
+                }
+            }
+
+            PriorityQueue<SearchHit> best = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::score));
+            for (Map.Entry<DocumentKey, Double> entry : scores.entrySet()) {
+                Document document = index.documents.get(entry.getKey());
+                if (document == null || !types.contains(document.key().type()) || !index.isVisible(document.setID(), userID)) {
+                    continue;
+                }
+
+                best.add(new SearchHit(document.key().type(), document.key().id(), document.setID(),
+                        document.title(), document.detail(), entry.getValue()));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Periodically rebuilds the index, so changes committed on other instances become searchable here.
+     */
+    @Scheduled(cron = "${app.search.rebuild-cron:0 */10 * * * *}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the whole index from the database and swaps it in.
+     *
+     * @return the number of indexed documents, or -1 if a rebuild is already running
+     */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.warn("Search index rebuild requested while another rebuild is running");
+            return -1;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            IndexState fresh = new IndexState();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<FlashcardSetSearchRow> rows = flashcardSetRepository.streamSearchRows()) {
+                    rows.forEach(row -> {
+                        fresh.sets.put(row.id(), new SetVisibility(row.publicFlag(), row.authorID()));
+                        fresh.add(setDocument(row.id(), row.title()));
+                    });
+                }
+                try (Stream<FlashcardSearchRow> rows = flashcardRepository.streamSearchRows()) {
+                    rows.forEach(row -> fresh.add(flashcardDocument(
+                            row.id(), row.setID(), row.word(), row.translation(), row.description())));
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                pendingDuringRebuild.clear();
+                state = fresh;
+                rebuilding.set(false);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Search index rebuilt with {} documents and {} terms in {} ms",
+                    fresh.documents.size(), fresh.postings.size(), (System.nanoTime() - startedAt) / 1_000_000);
+            return fresh.documents.size();
+        } finally {
+            if (rebuilding.get()) {
+                lock.writeLock().lock();
+                try {
+                    pendingDuringRebuild.clear();
+                    rebuilding.set(false);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return state.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return state.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Consumer<IndexState> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<IndexState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (rebuilding.get()) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Document flashcardDocument(UUID id, UUID setID, String word, String translation, String description) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, word, WORD_WEIGHT);
+        addTerms(terms, translation, TRANSLATION_WEIGHT);
+        addTerms(terms, description, DESCRIPTION_WEIGHT);
+
+        String detail = translation != null && !translation.isBlank() ? translation : description;
+        if (detail != null && detail.length() > MAX_DETAIL_LENGTH) {
+            detail = detail.substring(0, MAX_DETAIL_LENGTH);
+        }
+
+        return new Document(new DocumentKey(SearchDocumentType.FLASHCARD, id), setID, word, detail, terms);
+    }
+
+    private static Document setDocument(UUID id, String title) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, title, TITLE_WEIGHT);
+
+        return new Document(new DocumentKey(SearchDocumentType.FLASHCARD_SET, id), id, title, null, terms);
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Float::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.add(token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token);
+            }
+        }
+        return terms;
+    }
+
+    private record DocumentKey(SearchDocumentType type, UUID id) {
+    }
+
+    private record Document(DocumentKey key, UUID setID, String title, String detail, Map<String, Float> terms) {
+    }
+
+    private record SetVisibility(boolean publicFlag, UUID authorID) {
+    }
+
+    /**
+     * Mutable index data. Guarded by the enclosing index's lock, except while a fresh state is being rebuilt
+     * by a single thread before it is published.
+     */
+    private static final class IndexState {
+        private final NavigableMap<String, Map<DocumentKey, Float>> postings = new TreeMap<>();
+        private final Map<DocumentKey, Document> documents = new HashMap<>();
+        private final Map<UUID, SetVisibility> sets = new HashMap<>();
+        private final Map<UUID, Set<UUID>> flashcardsBySet = new HashMap<>();
+
+        void add(Document document) {
+            remove(document.key());
+
+            documents.put(document.key(), document);
+            document.terms().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.key(), weight));
+
+            if (document.key().type() == SearchDocumentType.FLASHCARD) {
+                flashcardsBySet.computeIfAbsent(document.setID(), id -> new HashSet<>()).add(document.key().id());
+            }
+        }
+
+        void remove(DocumentKey key) {
+            Document document = documents.remove(key);
+            if (document == null) {
+                return;
+            }
+
+            for (String term : document.terms().keySet()) {
+                Map<DocumentKey, Float> postingList = postings.get(term);
+                if (postingList != null) {
+                    postingList.remove(key);
+                    if (postingList.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+
+            if (key.type() == SearchDocumentType.FLASHCARD) {
+                Set<UUID> flashcardIDs = flashcardsBySet.get(document.setID());
+                if (flashcardIDs != null) {
+                    flashcardIDs.remove(key.id());
+                    if (flashcardIDs.isEmpty()) {
+                        flashcardsBySet.remove(document.setID());
+                    }
+                }
+            }
+        }
+
+        Map<DocumentKey, Double> scoreExact(String term) {
+            Map<DocumentKey, Double> scores = new HashMap<>();
+            Map<DocumentKey, Float> postingList = postings.get(term);
+            if (postingList != null) {
+                double idf = idf(postingList.size());
+                postingList.forEach((key, weight) -> scores.put(key, weight * idf));
+            }
+            return scores;
+        }
+
+        /**
+         * Scores the term itself and its longer expansions. When the prefix has more than
+         * {@link #MAX_PREFIX_EXPANSIONS} expansions, only the ones with the most documents are scored.
+         */
+        Map<DocumentKey, Double> scorePrefix(String prefix) {
+            Map<DocumentKey, Double> scores = scoreExact(prefix);
+
+            Collection<Map.Entry<String, Map<DocumentKey, Float>>> expansions =
+                    postings.subMap(prefix, false, prefix + Character.MAX_VALUE, true).entrySet();
+            if (expansions.size() > MAX_PREFIX_EXPANSIONS) {
+                PriorityQueue<Map.Entry<String, Map<DocumentKey, Float>>> largest =
+                        new PriorityQueue<>(Comparator.comparingInt(entry -> entry.getValue().size()));
+                for (Map.Entry<String, Map<DocumentKey, Float>> entry : expansions) {
+                    largest.add(entry);
+                    if (largest.size() > MAX_PREFIX_EXPANSIONS) {
+                        largest.poll();
+                    }
+                }
+                expansions = largest;
+            }
+
+            for (Map.Entry<String, Map<DocumentKey, Float>> entry : expansions) {
+                double idf = idf(entry.getValue().size());
+                entry.getValue().forEach((key, weight) ->
+                        scores.merge(key, weight * idf * PREFIX_MATCH_FACTOR, Math::max));
+            }
+            return scores;
+        }
+
+        boolean isVisible(UUID setID, UUID userID) {
+            SetVisibility visibility = sets.get(setID);
+            return visibility != null && (visibility.publicFlag() || Objects.equals(visibility.authorID(), userID));
+        }
+
+        private double idf(int documentFrequency) {
+            return Math.log(1.0 + (double) (documents.size() + 1) / documentFrequency);
+        }
+    }
+}
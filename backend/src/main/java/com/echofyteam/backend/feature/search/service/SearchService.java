@@ -0,0 +1,14 @@
+package com.echofyteam.backend.feature.search.service;
+
+import com.echofyteam.backend.feature.search.dto.response.SearchIndexStatusResponse;
+import com.echofyteam.backend.feature.search.dto.response.SearchResultResponse;
+import com.echofyteam.backend.feature.search.index.SearchDocumentType;
+
+import java.util.List;
+import java.util.Set;
+
+public interface SearchService {
+    List<SearchResultResponse> search(String query, Set<SearchDocumentType> types, int limit);
+    List<String> suggest(String prefix, int limit);
+    SearchIndexStatusResponse rebuildIndex();
+}
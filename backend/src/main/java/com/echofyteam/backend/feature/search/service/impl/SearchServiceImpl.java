@@ -0,0 +1,96 @@
+package com.echofyteam.backend.feature.search.service.impl;
+
+import com.echofyteam.backend.exception.impl.BusinessException;
+import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import com.echofyteam.backend.feature.search.dto.response.SearchIndexStatusResponse;
+import com.echofyteam.backend.feature.search.dto.response.SearchResultResponse;
+import com.echofyteam.backend.feature.search.index.SearchDocumentType;
+import com.echofyteam.backend.feature.search.index.SearchHit;
+import com.echofyteam.backend.feature.search.index.SearchIndex;
+import com.echofyteam.backend.feature.search.service.SearchService;
+import com.echofyteam.backend.feature.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+    private static final int MAX_RESULTS = 100;
+    private static final int SUGGESTION_CANDIDATES_FACTOR = 4;
+
+    private final SearchIndex searchIndex;
+    private final UserService userService;
+
+    @Override
+    public List<SearchResultResponse> search(String query, Set<SearchDocumentType> types, int limit) {
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to search");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
+
+        Set<SearchDocumentType> searchedTypes = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchDocumentType.class)
+                : EnumSet.copyOf(types);
+
+        return searchIndex.search(query, searchedTypes, currentUserID, Math.clamp(limit, 1, MAX_RESULTS)).stream()
+                .map(SearchServiceImpl::toSearchResultResponse)
+                .toList();
+    }
+
+    @Override
+    public List<String> suggest(String prefix, int limit) {
+        UUID currentUserID = userService.getCurrentUserID()
+                .orElseThrow(() -> {
+                    log.warn("User not authenticated - forbidden to search");
+                    return new BusinessException(BusinessExceptionReason.FORBIDDEN);
+                });
+
+        int size = Math.clamp(limit, 1, MAX_RESULTS);
+        List<SearchHit> hits = searchIndex.search(
+                prefix, EnumSet.allOf(SearchDocumentType.class), currentUserID, size * SUGGESTION_CANDIDATES_FACTOR);
+
+        Set<String> seen = new HashSet<>();
+        List<String> suggestions = new ArrayList<>(size);
+        for (SearchHit hit : hits) {
+            if (suggestions.size() == size) {
+                break;
+            }
+            if (hit.title() != null && seen.add(hit.title().toLowerCase(Locale.ROOT))) {
+                suggestions.add(hit.title());
+            }
+        }
+        return suggestions;
+    }
+
+    @Override
+    public SearchIndexStatusResponse rebuildIndex() {
+        log.info("Rebuilding search index");
+
+        long startedAt = System.nanoTime();
+        if (searchIndex.rebuild() < 0) {
+            throw new BusinessException(BusinessExceptionReason.SEARCH_INDEX_REBUILD_IN_PROGRESS);
+        }
+
+        return SearchIndexStatusResponse.builder()
+                .documents(searchIndex.getDocumentCount())
+                .terms(searchIndex.getTermCount())
+                .durationMillis((System.nanoTime() - startedAt) / 1_000_000)
+                .build();
+    }
+
+    private static SearchResultResponse toSearchResultResponse(SearchHit hit) {
+        return SearchResultResponse.builder()
+                .type(hit.type())
+                .id(hit.id())
+                .setID(hit.setID())
+                .title(hit.title())
+                .detail(hit.detail())
+                .score(hit.score())
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.echofyteam.backend.feature.user.cache;
+
+import com.echofyteam.backend.feature.user.entity.UserEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of {@link UserSnapshot}s keyed by user id, by email and by username.
+ * <p>
+ * Entries are evicted by size and TTL, and explicitly invalidated whenever a user or the role graph changes.
+ * Only found users are cached; lookups of unknown users always go to the loader.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UserCache {
+    private final Cache<UUID, UserSnapshot> byId;
+    private final Cache<String, UserSnapshot> byEmail;
+    private final Cache<String, UserSnapshot> byUsername;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserCache(
+            @Value("${app.cache.user.max-size:10000}") long maxSize,
+            @Value("${app.cache.user.ttl:5m}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.byUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the cached snapshot of the user with the given id, loading it on a miss.
+     *
+     * @param userID the unique identifier of the user
+     * @param loader loads the user from the database on a cache miss
+     * @return the snapshot of the user, or empty if the user does not exist
+     */
+    public Optional<UserSnapshot> getByID(UUID userID, Supplier<Optional<UserEntity>> loader) {
+        UserSnapshot cached = byId.getIfPresent(userID);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        return loader.get().map(this::put);
+    }
+
+    /**
+     * Returns the cached snapshot of the user with the given email, loading it on a miss.
+     *
+     * @param email  the email address of the user
+     * @param loader loads the user from the database on a cache miss
+     * @return the snapshot of the user, or empty if the user does not exist
+     */
+    public Optional<UserSnapshot> getByEmail(String email, Supplier<Optional<UserEntity>> loader) {
+        UserSnapshot cached = byEmail.getIfPresent(email);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        return loader.get().map(this::put);
+    }
+
+    /**
+     * Returns the cached snapshot of the user whose email or username matches the given login, loading it on a miss.
+     * Email matches take precedence over username matches, as in the loader.
+     *
+     * @param login  the email address or username of the user
+     * @param loader loads the user from the database on a cache miss
+     * @return the snapshot of the user, or empty if the user does not exist
+     */
+    public Optional<UserSnapshot> getByEmailOrUsername(String login, Supplier<Optional<UserEntity>> loader) {
+        UserSnapshot cached = byEmail.getIfPresent(login);
+        if (cached == null) {
+            cached = byUsername.getIfPresent(login);
+        }
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        return loader.get().map(this::put);
+    }
+
+    /**
+     * Stores a fresh snapshot of the given user under its id, email and username.
+     *
+     * @param userEntity the loaded user
+     * @return the stored snapshot
+     */
+    public UserSnapshot put(UserEntity userEntity) {
+        UserSnapshot snapshot = UserSnapshot.from(userEntity);
+        byId.put(snapshot.id(), snapshot);
+        byEmail.put(snapshot.email(), snapshot);
+        byUsername.put(userEntity.getUsername(), snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Evicts the user with the given id. If a transaction is active, the user is evicted again
+     * after commit so that a concurrent reload cannot re-cache the pre-commit state.
+     *
+     * @param userID the unique identifier of the user
+     */
+    public void invalidate(UUID userID) {
+        runNowAndAfterCommit(() -> {
+            byId.invalidate(userID);
+            byEmail.asMap().values().removeIf(snapshot -> snapshot.id().equals(userID));
+            byUsername.asMap().values().removeIf(snapshot -> snapshot.id().equals(userID));
+        });
+        log.info("Invalidated cached user with id: {}", userID);
+    }
+
+    /**
+     * Evicts every cached user, e.g. after a role or permission change.
+     */
+    public void invalidateAll() {
+        runNowAndAfterCommit(() -> {
+            byId.invalidateAll();
+            byEmail.invalidateAll();
+            byUsername.invalidateAll();
+        });
+        log.info("Invalidated all cached users");
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getSize() {
+        return byId.estimatedSize();
+    }
+
+    private void runNowAndAfterCommit(Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.echofyteam.backend.feature.user.cache;
+
+import com.echofyteam.backend.feature.role.entity.Permission;
+import com.echofyteam.backend.feature.role.entity.Role;
+import com.echofyteam.backend.feature.user.entity.UserEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, detached copy of a user together with its roles and permissions.
+ * <p>
+ * Safe to share between threads and requests, unlike a managed {@link UserEntity}.
+ * </p>
+ *
+ * @param id          the unique identifier of the user
+ * @param email       the email address of the user, also used as the security username
+ * @param password    the encoded password of the user
+ * @param roles       the role names of the user
+ * @param authorities the role and permission authorities of the user
+ */
+public record UserSnapshot(
+        UUID id,
+        String email,
+        String password,
+        Set<String> roles,
+        Set<String> authorities
+) implements UserDetails {
+    public static UserSnapshot from(UserEntity userEntity) {
+        Set<String> roles = userEntity.getRoles().stream()
+                .map(Role::getName)
+                .collect(Collectors.toUnmodifiableSet());
+
+        Set<String> authorities = userEntity.getRoles().stream()
+                .flatMap(role -> Stream.concat(
+                        Stream.of(role.getAuthority()),
+                        role.getPermissions().stream().map(Permission::getAuthority)
+                ))
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new UserSnapshot(
+                userEntity.getId(),
+                userEntity.getEmail(),
+                userEntity.getPassword(),
+                roles,
+                authorities
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "UserSnapshot{" +
+                "id=" + id +
+                ", email='" + email + '\'' +
+                ", roles=" + roles +
+                '}';
+    }
+}
@@ -3,6 +3,7 @@ package com.echofyteam.backend.feature.user.entity;
 import com.echofyteam.backend.feature.auth.entity.RefreshTokenEntity;
 import com.echofyteam.backend.feature.flashcard.entity.UserFlashcardProgressEntity;
 import com.echofyteam.backend.feature.role.entity.Role;
+import com.echofyteam.backend.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -28,7 +29,7 @@ import java.util.stream.Stream;
 @EntityListeners(AuditingEntityListener.class)
 public class UserEntity implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -17,4 +17,6 @@ public interface UserService {
 
     UserResponse updateUsername(UUID userID, String username);
     Optional<UserEntity> getCurrentUser();
+    Optional<UUID> getCurrentUserID();
+    UserEntity getUserReference(UUID userID);
 }
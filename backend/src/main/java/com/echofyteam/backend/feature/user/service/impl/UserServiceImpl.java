@@ -2,6 +2,9 @@ package com.echofyteam.backend.feature.user.service.impl;
 
 import com.echofyteam.backend.exception.impl.BusinessException;
 import com.echofyteam.backend.exception.impl.BusinessExceptionReason;
+import com.echofyteam.backend.feature.auth.security.AuthenticatedUser;
+import com.echofyteam.backend.feature.user.cache.UserCache;
+import com.echofyteam.backend.feature.user.cache.UserSnapshot;
 import com.echofyteam.backend.feature.role.entity.Role;
 import com.echofyteam.backend.feature.role.repository.RoleRepository;
 import com.echofyteam.backend.feature.user.dto.request.CreateUserRequest;
@@ -32,6 +35,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final RoleRepository roleRepository;
+    private final UserCache userCache;
 
     @Override
     public UserResponse getUserByID(UUID userID) {
@@ -109,6 +113,7 @@ public class UserServiceImpl implements UserService {
 
         userEntity.setDeleted(true);
         userRepository.save(userEntity);
+        userCache.invalidate(userID);
 
         log.info("User with id: {} deleted", userID);
     }
@@ -131,6 +136,7 @@ public class UserServiceImpl implements UserService {
 
         userEntity.setUsername(username);
         UserEntity updatedUser = userRepository.save(userEntity);
+        userCache.invalidate(userID);
 
         log.info("Username for user id: {} changed to '{}'", userID, username);
         return userMapper.toUserResponse(updatedUser);
@@ -143,8 +149,36 @@ public class UserServiceImpl implements UserService {
             return Optional.empty();
         }
 
+        Optional<UUID> currentUserID = getCurrentUserID();
+        if (currentUserID.isPresent()) {
+            return userRepository.findById(currentUserID.get());
+        }
+
         String username = authentication.getName();
         return userRepository.findByEmail(username)
                 .or(() -> userRepository.findByUsername(username));
     }
+
+    @Override
+    public Optional<UUID> getCurrentUserID() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return Optional.empty();
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return Optional.of(authenticatedUser.id());
+        }
+        if (principal instanceof UserSnapshot userSnapshot) {
+            return Optional.of(userSnapshot.id());
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public UserEntity getUserReference(UUID userID) {
+        return userRepository.getReferenceById(userID);
+    }
 }
@@ -0,0 +1,81 @@
+package com.echofyteam.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the number of SQL statements every request executes.
+ * <p>
+ * The count is published as the {@code http.server.requests.queries} distribution, tagged like
+ * {@code http.server.requests} by method and URI pattern. Requests that execute more statements than the
+ * configured threshold are logged and counted in {@code http.server.requests.queries.exceeded}, which makes
+ * N+1 regressions visible per endpoint.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int threshold;
+
+    public QueryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.query-count.threshold:20}") int threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, QueryCounter.stop());
+        }
+    }
+
+    private void record(HttpServletRequest request, int queries) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(queries);
+
+        if (queries > threshold) {
+            Counter.builder("http.server.requests.queries.exceeded")
+                    .description("Requests that executed more SQL statements than the threshold")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executed {} SQL statements, more than the threshold of {}",
+                    request.getMethod(), uri, queries, threshold);
+        }
+    }
+}
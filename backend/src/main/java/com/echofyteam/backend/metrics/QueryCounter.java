@@ -0,0 +1,44 @@
+package com.echofyteam.backend.metrics;
+
+/**
+ * Counts the SQL statements executed on the current thread.
+ * <p>
+ * Counting is only active between {@link #start()} and {@link #stop()}, which {@link QueryCountFilter}
+ * calls around every request. Statements are reported by {@link QueryCountingDataSource}, so Hibernate,
+ * {@code JdbcTemplate} and any other JDBC access are all counted.
+ * </p>
+ */
+public final class QueryCounter {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Starts counting statements on the current thread.
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Counts one statement, if counting is active on the current thread.
+     */
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    /**
+     * Stops counting statements on the current thread.
+     *
+     * @return the number of statements executed since {@link #start()}
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,69 @@
+package com.echofyteam.backend.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link DataSource} wrapper that reports every statement to {@link QueryCounter}.
+ * <p>
+ * A prepared or callable statement counts once when it is prepared, however often it is executed in a batch,
+ * which matches how Hibernate batches inserts. A plain statement counts once per {@code execute*} call.
+ * </p>
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("prepareStatement") || name.equals("prepareCall")) {
+                        QueryCounter.increment();
+                    }
+
+                    Object result = invoke(connection, method, args);
+                    return name.equals("createStatement") ? countingStatement((Statement) result) : result;
+                });
+    }
+
+    private static Statement countingStatement(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(
+                QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        QueryCounter.increment();
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
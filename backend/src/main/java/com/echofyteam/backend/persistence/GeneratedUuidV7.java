@@ -0,0 +1,22 @@
+package com.echofyteam.backend.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated {@code UUID} id with {@link UuidV7Generator}.
+ * <p>
+ * Time-ordered ids are appended to the right edge of the primary and foreign key indexes instead of landing on
+ * random leaf pages. They are stored in the same {@code uuid} column as random ids, so existing version 4 ids stay
+ * valid and both versions can live side by side.
+ * </p>
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuidV7 {
+}
@@ -0,0 +1,54 @@
+package com.echofyteam.backend.persistence;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * The 48 most significant bits hold the Unix time in milliseconds, followed by the version, a 12 bit counter,
+ * the variant and 62 random bits. The timestamp and the counter are advanced together with a single CAS, so ids
+ * generated by one process are strictly increasing even across threads, within the same millisecond and when
+ * the clock steps back; if more than 4096 ids are generated in one millisecond the timestamp runs slightly ahead
+ * of the clock. Apart from the returned {@link UUID} nothing is allocated.
+ * </p>
+ * <p>
+ * The random bits come from {@link ThreadLocalRandom}: the ids are unique, not secret, and must not be used as
+ * tokens.
+ * </p>
+ */
+public final class UuidV7 {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /**
+     * Milliseconds shifted left by {@link #COUNTER_BITS}, or'ed with the counter of the last generated id.
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Generates a new version 7 UUID, greater than every id previously generated by this process.
+     *
+     * @return the generated UUID
+     */
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long last;
+        long next;
+        do {
+            last = LAST.get();
+            next = Math.max(last + 1, now);
+        } while (!LAST.compareAndSet(last, next));
+
+        long mostSigBits = (next >>> COUNTER_BITS) << 16 | VERSION | (next & COUNTER_MASK);
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,98 @@
+package com.echofyteam.backend.feature.flashcard;
+
+import com.echofyteam.backend.feature.auth.security.AuthenticatedUser;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardDifficultyLevel;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardSetRepository;
+import com.echofyteam.backend.feature.user.entity.UserEntity;
+import com.echofyteam.backend.feature.user.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Creates users, flashcard sets and flashcards for service tests, each in its own committed transaction.
+ * Import it with {@code @Import(FlashcardTestFixtures.class)}.
+ */
+@TestComponent
+public class FlashcardTestFixtures {
+    private final UserRepository userRepository;
+    private final FlashcardSetRepository flashcardSetRepository;
+    private final FlashcardRepository flashcardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public FlashcardTestFixtures(
+            UserRepository userRepository,
+            FlashcardSetRepository flashcardSetRepository,
+            FlashcardRepository flashcardRepository,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.flashcardSetRepository = flashcardSetRepository;
+        this.flashcardRepository = flashcardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Creates a user with a unique username and email.
+     *
+     * @param usernamePrefix the prefix of the generated username
+     * @return the saved user
+     */
+    public UserEntity createUser(String usernamePrefix) {
+        return transactionTemplate.execute(status -> userRepository.save(UserEntity.builder()
+                .username(usernamePrefix + "-" + UUID.randomUUID())
+                .email(UUID.randomUUID() + "@example.com")
+                .password("password")
+                .build()));
+    }
+
+    /**
+     * Creates a private set with the given number of cards. Card {@code i} has the word {@code word-i},
+     * the description {@code description-i} and the single use example {@code example-i}.
+     *
+     * @param author the author of the set
+     * @param title  the title of the set
+     * @param cards  the number of cards to create
+     * @return the unique identifier of the saved set
+     */
+    public UUID createSet(UserEntity author, String title, int cards) {
+        return transactionTemplate.execute(status -> {
+            FlashcardSetEntity flashcardSet = flashcardSetRepository.save(FlashcardSetEntity.builder()
+                    .title(title)
+                    .author(author)
+                    .cardCount(cards)
+                    .build());
+
+            flashcardRepository.saveAll(IntStream.range(0, cards)
+                    .mapToObj(i -> FlashcardEntity.builder()
+                            .set(flashcardSet)
+                            .word("word-" + i)
+                            .description("description-" + i)
+                            .difficultyLevel(FlashcardDifficultyLevel.EASY)
+                            .useExamples(List.of("example-" + i))
+                            .build())
+                    .toList());
+
+            return flashcardSet.getId();
+        });
+    }
+
+    /**
+     * Authenticates the user on the current thread, as the JWT filter would.
+     *
+     * @param user the user to authenticate
+     */
+    public void authenticate(UserEntity user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getId(), user.getEmail(), Set.of("USER")), null, List.of()));
+    }
+}
@@ -0,0 +1,213 @@
+package com.echofyteam.backend.feature.flashcard.entity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares storing use examples in the legacy side table against the inline column written by
+ * {@link UseExamplesConverter}: inserting a set's cards, reading them back with their examples and replacing
+ * the examples of every card. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class UseExamplesStorageBenchmark {
+    private static final int CARDS = 10_000;
+    private static final int EXAMPLES_PER_CARD = 3;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final UseExamplesConverter converter = new UseExamplesConverter();
+
+    private Connection connection;
+    private List<UUID> ids;
+    private Map<UUID, List<String>> examples;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:use-examples-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setAutoCommit(false);
+
+        ids = new ArrayList<>(CARDS);
+        examples = new HashMap<>();
+        for (int i = 0; i < CARDS; i++) {
+            UUID id = UUID.randomUUID();
+            List<String> cardExamples = new ArrayList<>(EXAMPLES_PER_CARD);
+            for (int j = 0; j < EXAMPLES_PER_CARD; j++) {
+                cardExamples.add("Example sentence number " + j + " for word " + i + ": it uses the word in context.");
+            }
+            ids.add(id);
+            examples.put(id, cardExamples);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareSideTableWithInlineColumn() throws SQLException {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runSideTable();
+            runInline();
+        }
+
+        long[] sideTable = new long[3];
+        long[] inline = new long[3];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            add(sideTable, runSideTable());
+            add(inline, runInline());
+        }
+
+        report("side table", sideTable);
+        report("inline", inline);
+    }
+
+    private long[] runSideTable() throws SQLException {
+        recreateTables();
+        long[] timings = new long[3];
+
+        long startedAt = System.nanoTime();
+        try (PreparedStatement cards = connection.prepareStatement("INSERT INTO cards (id, word) VALUES (?, ?)");
+             PreparedStatement cardExamples = connection.prepareStatement("INSERT INTO card_examples (card_id, example) VALUES (?, ?)")) {
+            for (UUID id : ids) {
+                cards.setObject(1, id);
+                cards.setString(2, id.toString());
+                cards.addBatch();
+                for (String example : examples.get(id)) {
+                    cardExamples.setObject(1, id);
+                    cardExamples.setString(2, example);
+                    cardExamples.addBatch();
+                }
+            }
+            cards.executeBatch();
+            cardExamples.executeBatch();
+        }
+        connection.commit();
+        timings[0] = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        Map<UUID, List<String>> read = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     SELECT c.id, c.word, e.example FROM cards c
+                     LEFT JOIN card_examples e ON e.card_id = c.id
+                     ORDER BY c.id
+                     """)) {
+            while (rs.next()) {
+                read.computeIfAbsent(rs.getObject(1, UUID.class), id -> new ArrayList<>()).add(rs.getString(3));
+            }
+        }
+        connection.commit();
+        timings[1] = System.nanoTime() - startedAt;
+        assertEquals(examples, read);
+
+        startedAt = System.nanoTime();
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM card_examples WHERE card_id = ?");
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO card_examples (card_id, example) VALUES (?, ?)")) {
+            for (UUID id : ids) {
+                delete.setObject(1, id);
+                delete.addBatch();
+                for (String example : examples.get(id)) {
+                    insert.setObject(1, id);
+                    insert.setString(2, example);
+                    insert.addBatch();
+                }
+            }
+            delete.executeBatch();
+            insert.executeBatch();
+        }
+        connection.commit();
+        timings[2] = System.nanoTime() - startedAt;
+
+        return timings;
+    }
+
+    private long[] runInline() throws SQLException {
+        recreateTables();
+        long[] timings = new long[3];
+
+        long startedAt = System.nanoTime();
+        try (PreparedStatement cards = connection.prepareStatement("INSERT INTO cards (id, word, use_examples) VALUES (?, ?, ?)")) {
+            for (UUID id : ids) {
+                cards.setObject(1, id);
+                cards.setString(2, id.toString());
+                cards.setString(3, converter.convertToDatabaseColumn(examples.get(id)));
+                cards.addBatch();
+            }
+            cards.executeBatch();
+        }
+        connection.commit();
+        timings[0] = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        Map<UUID, List<String>> read = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, word, use_examples FROM cards ORDER BY id")) {
+            while (rs.next()) {
+                read.put(rs.getObject(1, UUID.class), converter.convertToEntityAttribute(rs.getString(3)));
+            }
+        }
+        connection.commit();
+        timings[1] = System.nanoTime() - startedAt;
+        assertEquals(examples, read);
+
+        startedAt = System.nanoTime();
+        try (PreparedStatement update = connection.prepareStatement("UPDATE cards SET use_examples = ? WHERE id = ?")) {
+            for (UUID id : ids) {
+                update.setString(1, converter.convertToDatabaseColumn(examples.get(id)));
+                update.setObject(2, id);
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+        connection.commit();
+        timings[2] = System.nanoTime() - startedAt;
+
+        return timings;
+    }
+
+    private void recreateTables() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS card_examples");
+            statement.execute("DROP TABLE IF EXISTS cards");
+            statement.execute("CREATE TABLE cards (id UUID PRIMARY KEY, word VARCHAR(255), use_examples CHARACTER LARGE OBJECT)");
+            statement.execute("CREATE TABLE card_examples (card_id UUID NOT NULL REFERENCES cards (id), example VARCHAR(255))");
+            statement.execute("CREATE INDEX idx_card_examples_card ON card_examples (card_id)");
+        }
+        connection.commit();
+    }
+
+    private static void add(long[] total, long[] timings) {
+        for (int i = 0; i < total.length; i++) {
+            total[i] += timings[i];
+        }
+    }
+
+    private static void report(String storage, long[] total) {
+        System.out.printf("%-10s - insert: %6.1f ms, read: %6.1f ms, replace: %6.1f ms (%d cards, %d examples each)%n",
+                storage,
+                total[0] / 1e6 / MEASURED_ROUNDS,
+                total[1] / 1e6 / MEASURED_ROUNDS,
+                total[2] / 1e6 / MEASURED_ROUNDS,
+                CARDS, EXAMPLES_PER_CARD);
+    }
+}
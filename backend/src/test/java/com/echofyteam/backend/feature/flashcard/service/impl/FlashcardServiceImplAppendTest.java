@@ -0,0 +1,93 @@
+package com.echofyteam.backend.feature.flashcard.service.impl;
+
+import com.echofyteam.backend.feature.flashcard.FlashcardTestFixtures;
+import com.echofyteam.backend.feature.flashcard.dto.request.CreateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardDifficultyLevel;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardSetEntity;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardSetRepository;
+import com.echofyteam.backend.feature.flashcard.service.FlashcardService;
+import com.echofyteam.backend.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Appending a card must not initialize the set's flashcards collection, whatever the size of the set.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(FlashcardTestFixtures.class)
+class FlashcardServiceImplAppendTest {
+    private static final int EXISTING_CARDS = 5_000;
+
+    @Autowired
+    private FlashcardService flashcardService;
+
+    @Autowired
+    private FlashcardSetRepository flashcardSetRepository;
+
+    @Autowired
+    private FlashcardTestFixtures fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID flashcardSetID;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity author = fixtures.createUser("author");
+        flashcardSetID = fixtures.createSet(author, "Large set", EXISTING_CARDS);
+        fixtures.authenticate(author);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createFlashcardDoesNotLoadExistingCards() {
+        FlashcardSetEntity before = flashcardSetRepository.findById(flashcardSetID).orElseThrow();
+        statistics.clear();
+
+        flashcardService.createFlashcard(flashcardSetID, CreateFlashcardRequest.builder()
+                .word("appended")
+                .description("appended card")
+                .difficultyLevel(FlashcardDifficultyLevel.MEDIUM)
+                .useExamples(List.of("An appended card."))
+                .build());
+
+        assertEquals(0, statistics.getCollectionStatistics(FlashcardSetEntity.class.getName() + ".flashcards").getLoadCount(),
+                "the set's flashcards collection must not be initialized");
+        assertEquals(0, statistics.getEntityStatistics(FlashcardEntity.class.getName()).getLoadCount(),
+                "no existing flashcard may be loaded");
+        assertTrue(statistics.getEntityLoadCount() <= 1,
+                "only the flashcard set row may be loaded, but " + statistics.getEntityLoadCount() + " entities were");
+
+        FlashcardSetEntity after = flashcardSetRepository.findById(flashcardSetID).orElseThrow();
+        assertEquals(EXISTING_CARDS + 1, after.getCardCount());
+        assertEquals(before.getContentVersion() + 1, after.getContentVersion());
+        assertFalse(after.getUpdatedAt().isBefore(before.getUpdatedAt()));
+    }
+}
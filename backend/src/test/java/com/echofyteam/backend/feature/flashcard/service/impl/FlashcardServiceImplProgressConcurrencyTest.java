@@ -0,0 +1,141 @@
+package com.echofyteam.backend.feature.flashcard.service.impl;
+
+import com.echofyteam.backend.feature.flashcard.FlashcardTestFixtures;
+import com.echofyteam.backend.feature.flashcard.dto.request.BatchFlashcardProgressRequest;
+import com.echofyteam.backend.feature.flashcard.dto.request.FlashcardReviewEvent;
+import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardProgressRequest;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
+import com.echofyteam.backend.feature.flashcard.service.FlashcardService;
+import com.echofyteam.backend.feature.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Concurrent answers for the same flashcard, single or batched, must neither create duplicate progress rows
+ * nor lose repetitions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(FlashcardTestFixtures.class)
+class FlashcardServiceImplProgressConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int ANSWERS_PER_THREAD = 25;
+    private static final int RACED_FLASHCARDS = 20;
+
+    @Autowired
+    private FlashcardService flashcardService;
+
+    @Autowired
+    private FlashcardRepository flashcardRepository;
+
+    @Autowired
+    private FlashcardTestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.createUser("learner");
+    }
+
+    @Test
+    void concurrentAnswersKeepOneRowAndCountEveryRepetition() throws Exception {
+        UUID flashcardSetID = fixtures.createSet(user, "Practice set", 1);
+        UUID flashcardID = flashcardRepository.findIdsBySetId(flashcardSetID).getFirst();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> answers = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int thread = 0; thread < THREADS; thread++) {
+                boolean isUnsure = thread % 2 == 0;
+                answers.add(executor.submit(() -> {
+                    fixtures.authenticate(user);
+                    try {
+                        start.await();
+                        for (int answer = 0; answer < ANSWERS_PER_THREAD; answer++) {
+                            flashcardService.updateFlashcardProgress(flashcardSetID, flashcardID,
+                                    new UpdateFlashcardProgressRequest(isUnsure));
+                        }
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> answer : answers) {
+                answer.get();
+            }
+        }
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_flashcard_progresses WHERE user_id = ? AND flashcard_id = ?",
+                Integer.class, user.getId(), flashcardID), "concurrent answers must share one progress row");
+        assertEquals(THREADS * ANSWERS_PER_THREAD, jdbcTemplate.queryForObject(
+                "SELECT repetition_count FROM user_flashcard_progresses WHERE user_id = ? AND flashcard_id = ?",
+                Integer.class, user.getId(), flashcardID), "every answer must be counted");
+    }
+
+    @Test
+    void batchRacingFirstSingleAnswerKeepsOneRow() throws Exception {
+        UUID flashcardSetID = fixtures.createSet(user, "Raced set", RACED_FLASHCARDS);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (UUID flashcardID : flashcardRepository.findIdsBySetId(flashcardSetID)) {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> single = executor.submit(() -> {
+                    fixtures.authenticate(user);
+                    try {
+                        start.await();
+                        flashcardService.updateFlashcardProgress(flashcardSetID, flashcardID,
+                                new UpdateFlashcardProgressRequest(false));
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                });
+                Future<?> batch = executor.submit(() -> {
+                    fixtures.authenticate(user);
+                    try {
+                        start.await();
+                        flashcardService.batchUpdateFlashcardProgress(flashcardSetID, new BatchFlashcardProgressRequest(
+                                List.of(new FlashcardReviewEvent(flashcardID, true, Instant.now().minusSeconds(1)))));
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                });
+
+                start.countDown();
+                single.get();
+                batch.get();
+
+                assertEquals(1, jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM user_flashcard_progresses WHERE user_id = ? AND flashcard_id = ?",
+                        Integer.class, user.getId(), flashcardID), "a batch racing a single answer must share its row");
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.echofyteam.backend.feature.flashcard.service.impl;
+
+import com.echofyteam.backend.feature.flashcard.FlashcardTestFixtures;
+import com.echofyteam.backend.feature.flashcard.dto.request.UpdateFlashcardRequest;
+import com.echofyteam.backend.feature.flashcard.entity.FlashcardEntity;
+import com.echofyteam.backend.feature.flashcard.repository.FlashcardRepository;
+import com.echofyteam.backend.feature.flashcard.service.FlashcardService;
+import com.echofyteam.backend.feature.user.entity.UserEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A partial update must only change the fields present in the request; an empty examples list clears them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(FlashcardTestFixtures.class)
+class FlashcardServiceImplUpdateTest {
+    @Autowired
+    private FlashcardService flashcardService;
+
+    @Autowired
+    private FlashcardRepository flashcardRepository;
+
+    @Autowired
+    private FlashcardTestFixtures fixtures;
+
+    private UUID flashcardSetID;
+    private UUID flashcardID;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity author = fixtures.createUser("author");
+        flashcardSetID = fixtures.createSet(author, "Update set", 1);
+        flashcardID = flashcardRepository.findIdsBySetId(flashcardSetID).getFirst();
+        fixtures.authenticate(author);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void updatingOnlyWordKeepsUseExamples() {
+        flashcardService.updateFlashcard(flashcardSetID, flashcardID, new UpdateFlashcardRequest(
+                Optional.of("renamed"), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+
+        FlashcardEntity flashcard = flashcardRepository.findByIdAndSetId(flashcardID, flashcardSetID).orElseThrow();
+        assertEquals("renamed", flashcard.getWord());
+        assertEquals("description-0", flashcard.getDescription());
+        assertEquals(List.of("example-0"), flashcard.getUseExamples(), "omitted examples must be kept");
+    }
+
+    @Test
+    void emptyUseExamplesClearThem() {
+        flashcardService.updateFlashcard(flashcardSetID, flashcardID, new UpdateFlashcardRequest(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(List.of())));
+
+        FlashcardEntity flashcard = flashcardRepository.findByIdAndSetId(flashcardID, flashcardSetID).orElseThrow();
+        assertEquals("word-0", flashcard.getWord());
+        assertEquals(List.of(), flashcard.getUseExamples(), "an empty list must clear the examples");
+    }
+}
@@ -0,0 +1,135 @@
+package com.echofyteam.backend.persistence;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares random version 4 ids with {@link UuidV7} ids: the insert throughput of a file backed table keyed and
+ * indexed by the id, and the generation throughput under concurrency. The generation run also checks that
+ * concurrently generated ids are unique and increasing on every thread. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class UuidV7InsertBenchmark {
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 250_000;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void compareInsertThroughput() throws SQLException {
+        insertRows("warmup-v4", UUID::randomUUID);
+        insertRows("warmup-v7", UuidV7::generate);
+
+        report("insert", "v4", ROWS, insertRows("v4", UUID::randomUUID));
+        report("insert", "v7", ROWS, insertRows("v7", UuidV7::generate));
+    }
+
+    @Test
+    void compareConcurrentGeneration() throws Exception {
+        generateConcurrently(UUID::randomUUID, false);
+        generateConcurrently(UuidV7::generate, true);
+
+        report("generate", "v4", THREADS * IDS_PER_THREAD, generateConcurrently(UUID::randomUUID, false));
+        report("generate", "v7", THREADS * IDS_PER_THREAD, generateConcurrently(UuidV7::generate, true));
+    }
+
+    private long insertRows(String name, Supplier<UUID> ids) throws SQLException {
+        String url = "jdbc:h2:file:" + directory.resolve(name).toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE rows (id UUID PRIMARY KEY, owner_id UUID NOT NULL, payload VARCHAR(255))");
+                statement.execute("CREATE TABLE children (id UUID PRIMARY KEY, row_id UUID NOT NULL REFERENCES rows (id))");
+                statement.execute("CREATE INDEX idx_children_row ON children (row_id)");
+            }
+            connection.commit();
+
+            UUID owner = ids.get();
+            long startedAt = System.nanoTime();
+            try (PreparedStatement rows = connection.prepareStatement("INSERT INTO rows (id, owner_id, payload) VALUES (?, ?, ?)");
+                 PreparedStatement children = connection.prepareStatement("INSERT INTO children (id, row_id) VALUES (?, ?)")) {
+                for (int i = 0; i < ROWS; i++) {
+                    UUID id = ids.get();
+                    rows.setObject(1, id);
+                    rows.setObject(2, owner);
+                    rows.setString(3, "payload-" + i);
+                    rows.addBatch();
+                    children.setObject(1, ids.get());
+                    children.setObject(2, id);
+                    children.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        rows.executeBatch();
+                        children.executeBatch();
+                        connection.commit();
+                    }
+                }
+                rows.executeBatch();
+                children.executeBatch();
+                connection.commit();
+            }
+            return System.nanoTime() - startedAt;
+        }
+    }
+
+    private long generateConcurrently(Supplier<UUID> ids, boolean ordered) throws Exception {
+        UUID[][] generated = new UUID[THREADS][IDS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        long startedAt;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int thread = 0; thread < THREADS; thread++) {
+                UUID[] local = generated[thread];
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        local[i] = ids.get();
+                    }
+                    return null;
+                });
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        Set<UUID> unique = new HashSet<>(THREADS * IDS_PER_THREAD * 2);
+        for (UUID[] local : generated) {
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                unique.add(local[i]);
+                if (ordered && i > 0) {
+                    assertTrue(Long.compareUnsigned(local[i].getMostSignificantBits(), local[i - 1].getMostSignificantBits()) > 0,
+                            "ids must increase on every thread");
+                }
+            }
+        }
+        assertEquals(THREADS * IDS_PER_THREAD, unique.size(), "ids must be unique");
+        return elapsed;
+    }
+
+    private static void report(String operation, String version, int count, long nanos) {
+        System.out.printf("%-8s %s - %,d ids in %,.1f ms (%,.0f ids/s)%n",
+                operation, version, count, nanos / 1e6, count / (nanos / 1e9));
+    }
+}